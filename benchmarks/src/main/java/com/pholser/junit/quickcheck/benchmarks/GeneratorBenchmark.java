@@ -0,0 +1,113 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.benchmarks;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.internal.ParameterContext;
+import com.pholser.junit.quickcheck.internal.generator.GeneratorRepository;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Measures how fast one generator produces values, configured as it would be for a theory parameter.</p>
+ *
+ * <p>Each case is a method of the concrete benchmark class taking a single {@code @ForAll} parameter, which
+ * names the generator under test with {@code @From} and carries any configuration annotations. The generator
+ * is produced from that parameter just as junit-quickcheck produces one for a theory.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public abstract class GeneratorBenchmark {
+    private static final long SEED = 0x5DEECE66DL;
+
+    private Generator<?> generator;
+    private SourceOfRandomness random;
+    private GenerationStatus status;
+
+    protected abstract String parameter();
+
+    protected abstract int size();
+
+    @Setup public void setUp() {
+        Parameter parameter = caseNamed(parameter()).getParameters()[0];
+
+        random = new SourceOfRandomness(new Random(SEED));
+        random.setSeed(SEED);
+        status = new FixedStatus(size());
+        generator = GeneratorRepository.withServiceLoadedGenerators(random)
+            .produceGenerator(
+                new ParameterContext(parameter.getName(), parameter.getAnnotatedType(), parameter())
+                    .annotate(parameter));
+    }
+
+    @Benchmark public Object generate() {
+        return generator.generate(random, status);
+    }
+
+    private Method caseNamed(String name) {
+        for (Method each : getClass().getMethods()) {
+            if (each.getName().equals(name) && each.getParameterCount() == 1)
+                return each;
+        }
+
+        throw new IllegalArgumentException("No benchmark case named " + name + " in " + getClass());
+    }
+
+    private static class FixedStatus implements GenerationStatus {
+        private final int size;
+
+        FixedStatus(int size) {
+            this.size = size;
+        }
+
+        @Override public int size() {
+            return size;
+        }
+
+        @Override public int attempts() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.util.Date;
+import java.util.Locale;
+import java.util.TimeZone;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+import com.google.common.base.Function;
+import com.pholser.junit.quickcheck.ForAll;
+import com.pholser.junit.quickcheck.From;
+import com.pholser.junit.quickcheck.generator.InRange;
+import com.pholser.junit.quickcheck.generator.Precision;
+import com.pholser.junit.quickcheck.generator.java.lang.BooleanGenerator;
+import com.pholser.junit.quickcheck.generator.java.lang.ByteGenerator;
+import com.pholser.junit.quickcheck.generator.java.lang.CharacterGenerator;
+import com.pholser.junit.quickcheck.generator.java.lang.DoubleGenerator;
+import com.pholser.junit.quickcheck.generator.java.lang.FloatGenerator;
+import com.pholser.junit.quickcheck.generator.java.lang.IntegerGenerator;
+import com.pholser.junit.quickcheck.generator.java.lang.LongGenerator;
+import com.pholser.junit.quickcheck.generator.java.lang.ShortGenerator;
+import com.pholser.junit.quickcheck.generator.java.math.BigDecimalGenerator;
+import com.pholser.junit.quickcheck.generator.java.math.BigIntegerGenerator;
+import com.pholser.junit.quickcheck.generator.java.nio.charset.CharsetGenerator;
+import com.pholser.junit.quickcheck.generator.java.util.DateGenerator;
+import com.pholser.junit.quickcheck.generator.java.util.LocaleGenerator;
+import com.pholser.junit.quickcheck.generator.java.util.RFC4122;
+import com.pholser.junit.quickcheck.generator.java.util.TimeZoneGenerator;
+import com.pholser.junit.quickcheck.generator.java.util.concurrent.CallableGenerator;
+import com.pholser.junit.quickcheck.guava.generator.FunctionGenerator;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * <p>Generators whose values do not grow with {@link com.pholser.junit.quickcheck.generator.GenerationStatus#size()}.
+ * </p>
+ */
+public class ScalarGeneratorBenchmark extends GeneratorBenchmark {
+    @Param({
+        "booleans",
+        "bytes", "bytesInRange",
+        "chars", "charsInRange",
+        "shorts", "shortsInRange",
+        "ints", "intsInRange",
+        "longs", "longsInRange",
+        "floats", "floatsInRange",
+        "doubles", "doublesInRange",
+        "bigIntegersInRange",
+        "bigDecimalsInRange", "bigDecimalsInRangeWithPrecision",
+        "dates", "datesInRange",
+        "locales",
+        "timeZones",
+        "charsets",
+        "version3Uuids", "version4Uuids", "version5Uuids",
+        "callables",
+        "functions",
+        "voids"
+    })
+    public String parameter;
+
+    @Override protected String parameter() {
+        return parameter;
+    }
+
+    @Override protected int size() {
+        return 10;
+    }
+
+    public static void booleans(@ForAll @From(BooleanGenerator.class) boolean b) {
+    }
+
+    public static void bytes(@ForAll @From(ByteGenerator.class) byte b) {
+    }
+
+    public static void bytesInRange(@ForAll @From(ByteGenerator.class) @InRange(min = "-10", max = "10") byte b) {
+    }
+
+    public static void chars(@ForAll @From(CharacterGenerator.class) char ch) {
+    }
+
+    public static void charsInRange(@ForAll @From(CharacterGenerator.class) @InRange(min = "a", max = "z") char ch) {
+    }
+
+    public static void shorts(@ForAll @From(ShortGenerator.class) short s) {
+    }
+
+    public static void shortsInRange(
+        @ForAll @From(ShortGenerator.class) @InRange(min = "-1000", max = "1000") short s) {
+    }
+
+    public static void ints(@ForAll @From(IntegerGenerator.class) int i) {
+    }
+
+    public static void intsInRange(@ForAll @From(IntegerGenerator.class) @InRange(min = "-1000", max = "1000") int i) {
+    }
+
+    public static void longs(@ForAll @From(LongGenerator.class) long el) {
+    }
+
+    public static void longsInRange(
+        @ForAll @From(LongGenerator.class) @InRange(min = "-1000000", max = "1000000") long el) {
+    }
+
+    public static void floats(@ForAll @From(FloatGenerator.class) float f) {
+    }
+
+    public static void floatsInRange(@ForAll @From(FloatGenerator.class) @InRange(min = "-1.5", max = "1.5") float f) {
+    }
+
+    public static void doubles(@ForAll @From(DoubleGenerator.class) double d) {
+    }
+
+    public static void doublesInRange(
+        @ForAll @From(DoubleGenerator.class) @InRange(min = "-1.5", max = "1.5") double d) {
+    }
+
+    public static void bigIntegersInRange(
+        @ForAll @From(BigIntegerGenerator.class) @InRange(min = "-1000000000000", max = "1000000000000")
+        BigInteger i) {
+    }
+
+    public static void bigDecimalsInRange(
+        @ForAll @From(BigDecimalGenerator.class) @InRange(min = "-12345.6789", max = "12345.6789") BigDecimal d) {
+    }
+
+    public static void bigDecimalsInRangeWithPrecision(
+        @ForAll @From(BigDecimalGenerator.class) @InRange(min = "-12345.6789", max = "12345.6789") @Precision(scale = 8)
+        BigDecimal d) {
+    }
+
+    public static void dates(@ForAll @From(DateGenerator.class) Date d) {
+    }
+
+    public static void datesInRange(
+        @ForAll @From(DateGenerator.class) @InRange(min = "01/01/2000", max = "12/31/2020", format = "MM/dd/yyyy")
+        Date d) {
+    }
+
+    public static void locales(@ForAll @From(LocaleGenerator.class) Locale locale) {
+    }
+
+    public static void timeZones(@ForAll @From(TimeZoneGenerator.class) TimeZone zone) {
+    }
+
+    public static void charsets(@ForAll @From(CharsetGenerator.class) Charset charset) {
+    }
+
+    public static void version3Uuids(@ForAll @From(RFC4122.Version3.class) UUID u) {
+    }
+
+    public static void version4Uuids(@ForAll @From(RFC4122.Version4.class) UUID u) {
+    }
+
+    public static void version5Uuids(@ForAll @From(RFC4122.Version5.class) UUID u) {
+    }
+
+    public static void callables(@ForAll @From(CallableGenerator.class) Callable<Integer> c) {
+    }
+
+    public static void functions(@ForAll @From(FunctionGenerator.class) Function<String, Integer> f) {
+    }
+
+    public static void voids(@ForAll Void v) {
+    }
+}
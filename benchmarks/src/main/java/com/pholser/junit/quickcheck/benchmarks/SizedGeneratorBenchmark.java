@@ -0,0 +1,168 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.benchmarks;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.Properties;
+import java.util.Stack;
+import java.util.Vector;
+import java.util.WeakHashMap;
+
+import com.pholser.junit.quickcheck.ForAll;
+import com.pholser.junit.quickcheck.From;
+import com.pholser.junit.quickcheck.generator.InRange;
+import com.pholser.junit.quickcheck.generator.Precision;
+import com.pholser.junit.quickcheck.generator.java.lang.Encoded;
+import com.pholser.junit.quickcheck.generator.java.lang.StringGenerator;
+import com.pholser.junit.quickcheck.generator.java.math.BigDecimalGenerator;
+import com.pholser.junit.quickcheck.generator.java.math.BigIntegerGenerator;
+import com.pholser.junit.quickcheck.generator.java.util.ArrayListGenerator;
+import com.pholser.junit.quickcheck.generator.java.util.BitSetGenerator;
+import com.pholser.junit.quickcheck.generator.java.util.HashMapGenerator;
+import com.pholser.junit.quickcheck.generator.java.util.HashSetGenerator;
+import com.pholser.junit.quickcheck.generator.java.util.HashtableGenerator;
+import com.pholser.junit.quickcheck.generator.java.util.IdentityHashMapGenerator;
+import com.pholser.junit.quickcheck.generator.java.util.LinkedHashMapGenerator;
+import com.pholser.junit.quickcheck.generator.java.util.LinkedHashSetGenerator;
+import com.pholser.junit.quickcheck.generator.java.util.LinkedListGenerator;
+import com.pholser.junit.quickcheck.generator.java.util.PropertiesGenerator;
+import com.pholser.junit.quickcheck.generator.java.util.StackGenerator;
+import com.pholser.junit.quickcheck.generator.java.util.VectorGenerator;
+import com.pholser.junit.quickcheck.generator.java.util.WeakHashMapGenerator;
+import org.openjdk.jmh.annotations.Param;
+
+import static com.pholser.junit.quickcheck.generator.java.lang.Encoded.*;
+
+/**
+ * <p>Generators whose values grow with {@link com.pholser.junit.quickcheck.generator.GenerationStatus#size()}.</p>
+ */
+public class SizedGeneratorBenchmark extends GeneratorBenchmark {
+    @Param({
+        "strings",
+        "encodedStrings", "asciiStrings", "utf8Strings",
+        "bigIntegers",
+        "bigDecimals", "bigDecimalsWithPrecision",
+        "bitSets",
+        "arrayLists", "linkedLists", "hashSets", "linkedHashSets", "stacks", "vectors",
+        "hashMaps", "linkedHashMaps", "hashtables", "identityHashMaps", "weakHashMaps",
+        "properties",
+        "listsOfIntsInRange",
+        "mapsOfStringsToBigDecimals"
+    })
+    public String parameter;
+
+    @Param({ "1", "10", "100" })
+    public int size;
+
+    @Override protected String parameter() {
+        return parameter;
+    }
+
+    @Override protected int size() {
+        return size;
+    }
+
+    public static void strings(@ForAll @From(StringGenerator.class) String s) {
+    }
+
+    public static void encodedStrings(@ForAll @From(Encoded.class) String s) {
+    }
+
+    public static void asciiStrings(@ForAll @From(Encoded.class) @InCharset("US-ASCII") String s) {
+    }
+
+    public static void utf8Strings(@ForAll @From(Encoded.class) @InCharset("UTF-8") String s) {
+    }
+
+    public static void bigIntegers(@ForAll @From(BigIntegerGenerator.class) BigInteger i) {
+    }
+
+    public static void bigDecimals(@ForAll @From(BigDecimalGenerator.class) BigDecimal d) {
+    }
+
+    public static void bigDecimalsWithPrecision(
+        @ForAll @From(BigDecimalGenerator.class) @Precision(scale = 8) BigDecimal d) {
+    }
+
+    public static void bitSets(@ForAll @From(BitSetGenerator.class) BitSet bits) {
+    }
+
+    public static void arrayLists(@ForAll @From(ArrayListGenerator.class) ArrayList<Integer> items) {
+    }
+
+    public static void linkedLists(@ForAll @From(LinkedListGenerator.class) LinkedList<Integer> items) {
+    }
+
+    public static void hashSets(@ForAll @From(HashSetGenerator.class) HashSet<Integer> items) {
+    }
+
+    public static void linkedHashSets(@ForAll @From(LinkedHashSetGenerator.class) LinkedHashSet<Integer> items) {
+    }
+
+    public static void stacks(@ForAll @From(StackGenerator.class) Stack<Integer> items) {
+    }
+
+    public static void vectors(@ForAll @From(VectorGenerator.class) Vector<Integer> items) {
+    }
+
+    public static void hashMaps(@ForAll @From(HashMapGenerator.class) HashMap<Integer, Long> items) {
+    }
+
+    public static void linkedHashMaps(
+        @ForAll @From(LinkedHashMapGenerator.class) LinkedHashMap<Integer, Long> items) {
+    }
+
+    public static void hashtables(@ForAll @From(HashtableGenerator.class) Hashtable<Integer, Long> items) {
+    }
+
+    public static void identityHashMaps(
+        @ForAll @From(IdentityHashMapGenerator.class) IdentityHashMap<Integer, Long> items) {
+    }
+
+    public static void weakHashMaps(@ForAll @From(WeakHashMapGenerator.class) WeakHashMap<Integer, Long> items) {
+    }
+
+    public static void properties(@ForAll @From(PropertiesGenerator.class) Properties items) {
+    }
+
+    public static void listsOfIntsInRange(
+        @ForAll @From(ArrayListGenerator.class) ArrayList<@InRange(min = "0", max = "9") Integer> items) {
+    }
+
+    public static void mapsOfStringsToBigDecimals(
+        @ForAll @From(HashMapGenerator.class) HashMap<String, @Precision(scale = 2) BigDecimal> items) {
+    }
+}
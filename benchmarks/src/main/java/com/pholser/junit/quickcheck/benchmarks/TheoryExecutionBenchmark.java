@@ -0,0 +1,203 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.pholser.junit.quickcheck.ForAll;
+import com.pholser.junit.quickcheck.From;
+import com.pholser.junit.quickcheck.Zipped;
+import com.pholser.junit.quickcheck.generator.InRange;
+import com.pholser.junit.quickcheck.generator.java.lang.IntegerGenerator;
+import com.pholser.junit.quickcheck.runner.QuickcheckTheories;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.runner.Request;
+import org.junit.runner.Runner;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+import org.junit.runner.RunWith;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <p>Measures the framework's cost of running whole theory classes whose bodies do next to nothing: supplying
+ * values, resolving and configuring generators, scanning parameter annotations, evaluating constraints, and
+ * the theories runner's loop over combinations of values.</p>
+ *
+ * <p>Each run of a theory class is one operation. The secondary {@code trials} result counts executions of
+ * theory bodies per second, so its reciprocal is the overhead per trial. Comparing cases of different arity
+ * with the same number of trials gives the overhead per parameter.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TheoryExecutionBenchmark {
+    static long trials;
+
+    @Param({
+        "OneInt10", "OneInt100", "OneInt1000",
+        "TwoInts10", "TwoInts32",
+        "ThreeInts10",
+        "OneIntInRange1000",
+        "OneIntFrom1000",
+        "OneIntSuchThatBound1000", "OneIntSuchThatResidual1000",
+        "TwoIntsZipped1000"
+    })
+    public String theory;
+
+    private Class<?> theoryClass;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Trials {
+        public long trials;
+
+        @Setup(Level.Iteration) public void clear() {
+            trials = 0;
+        }
+    }
+
+    @Setup public void setUp() throws ClassNotFoundException {
+        theoryClass = Class.forName(TheoryExecutionBenchmark.class.getName() + '$' + theory);
+    }
+
+    @Benchmark public void run(Trials counter) {
+        Runner runner = Request.aClass(theoryClass).getRunner();
+        List<Failure> failures = new ArrayList<>();
+        RunNotifier notifier = new RunNotifier();
+        notifier.addListener(new RunListener() {
+            @Override public void testFailure(Failure failure) {
+                failures.add(failure);
+            }
+        });
+
+        trials = 0;
+        runner.run(notifier);
+        if (!failures.isEmpty())
+            throw new IllegalStateException(failures.get(0).getMessage(), failures.get(0).getException());
+
+        counter.trials += trials;
+    }
+
+    @RunWith(Theories.class)
+    public static class OneInt10 {
+        @Theory public void holds(@ForAll(sampleSize = 10) int i) {
+            ++trials;
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class OneInt100 {
+        @Theory public void holds(@ForAll(sampleSize = 100) int i) {
+            ++trials;
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class OneInt1000 {
+        @Theory public void holds(@ForAll(sampleSize = 1000) int i) {
+            ++trials;
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class TwoInts10 {
+        @Theory public void holds(@ForAll(sampleSize = 10) int i, @ForAll(sampleSize = 10) int j) {
+            ++trials;
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class TwoInts32 {
+        @Theory public void holds(@ForAll(sampleSize = 32) int i, @ForAll(sampleSize = 32) int j) {
+            ++trials;
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class ThreeInts10 {
+        @Theory public void holds(
+            @ForAll(sampleSize = 10) int i,
+            @ForAll(sampleSize = 10) int j,
+            @ForAll(sampleSize = 10) int k) {
+
+            ++trials;
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class OneIntInRange1000 {
+        @Theory public void holds(@ForAll(sampleSize = 1000) @InRange(min = "0", max = "99") int i) {
+            ++trials;
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class OneIntFrom1000 {
+        @Theory public void holds(@ForAll(sampleSize = 1000) @From(IntegerGenerator.class) int i) {
+            ++trials;
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class OneIntSuchThatBound1000 {
+        @Theory public void holds(@ForAll(sampleSize = 1000, suchThat = "#_ >= 0 && #_ < 100") int i) {
+            ++trials;
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class OneIntSuchThatResidual1000 {
+        @Theory public void holds(@ForAll(sampleSize = 1000, discardRatio = 10, suchThat = "#_ % 2 == 0") int i) {
+            ++trials;
+        }
+    }
+
+    @RunWith(QuickcheckTheories.class)
+    public static class TwoIntsZipped1000 {
+        @Zipped @Theory public void holds(@ForAll(sampleSize = 1000) int i, @ForAll(sampleSize = 1000) int j) {
+            ++trials;
+        }
+    }
+}
@@ -27,6 +27,8 @@ package com.pholser.junit.quickcheck;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.util.Random;
+import java.util.function.Predicate;
 
 import com.pholser.junit.quickcheck.internal.RandomValueSupplier;
 import org.junit.contrib.theories.ParametersSuppliedBy;
@@ -61,9 +63,39 @@ public @interface ForAll {
      */
     String suchThat() default "";
 
+    /**
+     * <p>A type of {@link Predicate} used to constrain the values fed to the annotated theory parameter. The type
+     * must have an accessible zero-arg constructor; a fresh instance tests the generated values for each theory
+     * parameter.</p>
+     *
+     * <p>Unlike a {@linkplain #suchThat() constraint expression}, a predicate is plain Java code, with no expression
+     * to interpret for every generated value. If both are given, a value must satisfy both.</p>
+     *
+     * @return the type of predicate that generated values must satisfy
+     */
+    @SuppressWarnings("rawtypes")
+    Class<? extends Predicate> satisfying() default Predicate.class;
+
     /**
      * @return a value to be used as the initial seed for the random value generator. Not specifying a value
      * causes the seed to be chosen in the usual JDK way.
      */
     long seed() default 0;
+
+    /**
+     * <p>The type of source of randomness used to generate values for the annotated theory parameter. The type must
+     * have an accessible zero-arg constructor. {@link com.pholser.junit.quickcheck.random.UnsynchronizedRandom}
+     * subclasses such as {@link com.pholser.junit.quickcheck.random.SplitMix64Random} and
+     * {@link com.pholser.junit.quickcheck.random.Xoroshiro128PlusPlusRandom} are considerably faster than
+     * {@link Random} for generation-heavy theories.</p>
+     *
+     * <p>Not specifying a value defers to the class named by the system property
+     * {@code junit-quickcheck.random}, if set; otherwise, {@link Random} is used.</p>
+     *
+     * <p>A given {@linkplain #seed() seed} reproduces the same values only with the same type of source of
+     * randomness.</p>
+     *
+     * @return the type of source of randomness
+     */
+    Class<? extends Random> random() default Random.class;
 }
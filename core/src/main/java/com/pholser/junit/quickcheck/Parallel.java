@@ -0,0 +1,56 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * <p>Mark a theory class with this annotation to have the trials of its theories executed concurrently.</p>
+ *
+ * <p>Values for theory parameters are still generated one trial after another, in the same order as they would
+ * be without this annotation. Only the execution of the theory methods is spread across worker threads. Theory
+ * methods, and the theory class's constructor, must therefore be safe to run concurrently.</p>
+ *
+ * <p>If trials fail, the failure reported is that of the earliest failing trial in generation order -- the same
+ * failure that would be reported were the trials executed one after another. Once a trial fails, no further values
+ * are generated, and trials that come after it and have not yet started are abandoned.</p>
+ *
+ * <p>This annotation is recognized by the {@link com.pholser.junit.quickcheck.runner.QuickcheckTheories}
+ * runner.</p>
+ */
+@Target(TYPE)
+@Retention(RUNTIME)
+public @interface Parallel {
+    /**
+     * @return how many threads to execute trials on. A non-positive value means to use as many threads as
+     * there are {@linkplain Runtime#availableProcessors() processors available}.
+     */
+    int workers() default 0;
+}
@@ -0,0 +1,50 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * <p>Mark a {@link org.junit.contrib.theories.Theory Theory} method with this annotation to have the values for
+ * its {@link ForAll} parameters generated together, as tuples, rather than separately for each parameter and then
+ * combined in every possible way.</p>
+ *
+ * <p>For such a theory, the number of trials is the largest {@linkplain ForAll#sampleSize() sample size} among
+ * its parameters, rather than the product of their sample sizes. A parameter with a smaller sample size simply
+ * keeps generating values until the trials are done. Each parameter keeps its own generators, configuration,
+ * constraint, and seed.</p>
+ *
+ * <p>This annotation is recognized by the {@link com.pholser.junit.quickcheck.runner.QuickcheckTheories} runner.
+ * Every parameter of a method so marked must be marked with {@link ForAll}.</p>
+ */
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface Zipped {
+}
@@ -25,17 +25,26 @@
 
 package com.pholser.junit.quickcheck.generator;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import com.pholser.junit.quickcheck.internal.ParameterContext;
+import com.pholser.junit.quickcheck.internal.ReflectionException;
 import com.pholser.junit.quickcheck.internal.generator.GeneratorRepository;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 
 import static com.pholser.junit.quickcheck.internal.Reflection.*;
+import static com.pholser.junit.quickcheck.internal.generator.CompositeGenerator.*;
+import static java.lang.invoke.MethodHandles.*;
+import static java.lang.invoke.MethodType.*;
 
 /**
  * <p>A generator that produces instances of a class by reflecting the class for a single accessible constructor,
@@ -44,15 +53,47 @@ import static com.pholser.junit.quickcheck.internal.Reflection.*;
  * <p>If a constructor parameter is marked with an annotation that influences the generation of a given kind of
  * value, it will be applied to the generation of values for that parameter.</p>
  *
+ * <p>Parameters of primitive type are generated without boxing when the generator for the parameter implements
+ * the matching primitive contract, such as {@link PrimitiveIntGenerator}.</p>
+ *
  * <p>This generator is intended to be used with {@link com.pholser.junit.quickcheck.From}, and not to be
  * loaded via the {@link com.pholser.junit.quickcheck.internal.generator.ServiceLoaderGeneratorSource}.</p>
  *
  * @param <T> the type of objects generated
  */
 public class Ctor<T> extends Generator<T> {
+    private static final MethodHandle GENERATE;
+    private static final Map<Class<?>, MethodHandle> PRIMITIVE_GENERATES = new HashMap<>(16);
+
+    static {
+        MethodHandles.Lookup lookup = lookup();
+        try {
+            GENERATE = lookup.findVirtual(Generator.class, "generate", generateType(Object.class));
+            PRIMITIVE_GENERATES.put(boolean.class,
+                lookup.findVirtual(PrimitiveBooleanGenerator.class, "generateBoolean", generateType(boolean.class)));
+            PRIMITIVE_GENERATES.put(byte.class,
+                lookup.findVirtual(PrimitiveByteGenerator.class, "generateByte", generateType(byte.class)));
+            PRIMITIVE_GENERATES.put(char.class,
+                lookup.findVirtual(PrimitiveCharGenerator.class, "generateChar", generateType(char.class)));
+            PRIMITIVE_GENERATES.put(double.class,
+                lookup.findVirtual(PrimitiveDoubleGenerator.class, "generateDouble", generateType(double.class)));
+            PRIMITIVE_GENERATES.put(float.class,
+                lookup.findVirtual(PrimitiveFloatGenerator.class, "generateFloat", generateType(float.class)));
+            PRIMITIVE_GENERATES.put(int.class,
+                lookup.findVirtual(PrimitiveIntGenerator.class, "generateInt", generateType(int.class)));
+            PRIMITIVE_GENERATES.put(long.class,
+                lookup.findVirtual(PrimitiveLongGenerator.class, "generateLong", generateType(long.class)));
+            PRIMITIVE_GENERATES.put(short.class,
+                lookup.findVirtual(PrimitiveShortGenerator.class, "generateShort", generateType(short.class)));
+        } catch (ReflectiveOperationException ex) {
+            throw new ExceptionInInitializerError(ex);
+        }
+    }
+
     private final Constructor<T> single;
     private final Parameter[] parameters;
     private final List<Generator<?>> parameterGenerators = new ArrayList<>();
+    private MethodHandle constructor;
 
     /**
      * @param type the type of objects to be generated
@@ -65,22 +106,19 @@ public class Ctor<T> extends Generator<T> {
     }
 
     @Override public T generate(SourceOfRandomness random, GenerationStatus status) {
-        return instantiate(single, arguments(random, status));
+        try {
+            return types().get(0).cast((Object) constructor.invokeExact(random, status));
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ReflectionException(ex);
+        }
     }
 
     @Override public boolean canRegisterAsType(Class<?> type) {
         return false;
     }
 
-    private Object[] arguments(SourceOfRandomness random, GenerationStatus status) {
-        Object[] args = new Object[parameters.length];
-
-        for (int i = 0; i < args.length; ++i)
-            args[i] = parameterGenerators.get(i).generate(random, status);
-
-        return args;
-    }
-
     @Override public void provideRepository(GeneratorRepository provided) {
         super.provideRepository(provided);
 
@@ -88,6 +126,8 @@ public class Ctor<T> extends Generator<T> {
         for (Parameter each : parameters) {
             parameterGenerators.add(generatorFor(parameterContext(each)));
         }
+
+        constructor = generatingConstructor();
     }
 
     @Override public void configure(AnnotatedType annotatedType) {
@@ -97,6 +137,35 @@ public class Ctor<T> extends Generator<T> {
             parameterGenerators.get(i).configure(parameters[i].getAnnotatedType());
     }
 
+    private MethodHandle generatingConstructor() {
+        MethodHandle generating = constructorHandle(single);
+        for (int i = parameters.length - 1; i >= 0; --i)
+            generating = collectArguments(generating, i, generateParameter(parameterGenerators.get(i), parameters[i]));
+
+        int[] reorder = new int[2 * parameters.length];
+        for (int i = 0; i < reorder.length; ++i)
+            reorder[i] = i % 2;
+
+        return permuteArguments(
+            generating.asType(generating.type().changeReturnType(Object.class)),
+            generateType(Object.class),
+            reorder);
+    }
+
+    private static MethodHandle generateParameter(Generator<?> generator, Parameter parameter) {
+        Class<?> parameterType = parameter.getType();
+        MethodHandle primitive = PRIMITIVE_GENERATES.get(parameterType);
+        Generator<?> sole = unboxingComponentOf(generator);
+        if (primitive != null && primitive.type().parameterType(0).isInstance(sole))
+            return primitive.bindTo(sole);
+
+        return GENERATE.bindTo(generator).asType(generateType(parameterType));
+    }
+
+    private static MethodType generateType(Class<?> returnType) {
+        return methodType(returnType, SourceOfRandomness.class, GenerationStatus.class);
+    }
+
     private ParameterContext parameterContext(Parameter parameter) {
         return new ParameterContext(
             parameter.getName(),
@@ -0,0 +1,260 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.generator;
+
+import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.pholser.junit.quickcheck.internal.ParameterContext;
+import com.pholser.junit.quickcheck.internal.ReflectionException;
+import com.pholser.junit.quickcheck.internal.generator.GeneratorRepository;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+
+import static com.pholser.junit.quickcheck.internal.generator.CompositeGenerator.*;
+
+/**
+ * <p>Base class for the generators that {@code junit-quickcheck-processor} emits for classes marked
+ * {@link Generable}.</p>
+ *
+ * <p>A subclass names the constructor parameters or fields it needs values for. When given a repository, this
+ * class resolves a generator for each such component, honoring the component's configuration annotations just
+ * as {@link Ctor} and {@link Fields} do. The subclass's
+ * {@link #generate(SourceOfRandomness, GenerationStatus) generate} then asks for component values by position,
+ * via {@link #component(int, SourceOfRandomness, GenerationStatus)} or one of its unboxed variants such as
+ * {@link #intComponent(int, SourceOfRandomness, GenerationStatus)}, and builds the instance without
+ * reflection.</p>
+ *
+ * @param <T> the type of objects generated
+ */
+public abstract class DerivedGenerator<T> extends Generator<T> {
+    private final List<ParameterContext> contexts = new ArrayList<>();
+    private Generator<?>[] components = new Generator<?>[0];
+    private Generator<?>[] soles = new Generator<?>[0];
+
+    /**
+     * Makes a generator whose components are the parameters of the given constructor.
+     *
+     * @param type the type of objects to be generated
+     * @param constructor the constructor that the subclass will invoke
+     */
+    protected DerivedGenerator(Class<T> type, Constructor<T> constructor) {
+        super(type);
+
+        for (Parameter each : constructor.getParameters()) {
+            contexts.add(
+                new ParameterContext(each.getName(), each.getAnnotatedType(), constructor.getName()).annotate(each));
+        }
+    }
+
+    /**
+     * Makes a generator whose components are the given fields.
+     *
+     * @param type the type of objects to be generated
+     * @param fields the fields that the subclass will give values to
+     */
+    protected DerivedGenerator(Class<T> type, Field... fields) {
+        super(type);
+
+        for (Field each : fields) {
+            contexts.add(
+                new ParameterContext(each.getName(), each.getAnnotatedType(), each.getDeclaringClass().getName())
+                    .annotate(each));
+        }
+    }
+
+    /**
+     * @param type class whose constructor is wanted
+     * @param parameterTypes the constructor's parameter types
+     * @param <U> type of objects the constructor makes
+     * @return the constructor, whatever its accessibility
+     * @throws ReflectionException if there is no such constructor
+     */
+    protected static <U> Constructor<U> constructorOf(Class<U> type, Class<?>... parameterTypes) {
+        try {
+            return type.getDeclaredConstructor(parameterTypes);
+        } catch (NoSuchMethodException ex) {
+            throw new ReflectionException(ex);
+        }
+    }
+
+    /**
+     * @param declarer class that declares the field
+     * @param name the field's name
+     * @return the field, whatever its accessibility
+     * @throws ReflectionException if there is no such field
+     */
+    protected static Field fieldOf(Class<?> declarer, String name) {
+        try {
+            return declarer.getDeclaredField(name);
+        } catch (NoSuchFieldException ex) {
+            throw new ReflectionException(ex);
+        }
+    }
+
+    @Override public void provideRepository(GeneratorRepository provided) {
+        super.provideRepository(provided);
+
+        components = new Generator<?>[contexts.size()];
+        soles = new Generator<?>[contexts.size()];
+        for (int i = 0; i < components.length; ++i) {
+            components[i] = generatorFor(contexts.get(i));
+            soles[i] = unboxingComponentOf(components[i]);
+        }
+    }
+
+    @Override public void configure(AnnotatedType annotatedType) {
+        super.configure(annotatedType);
+
+        for (int i = 0; i < components.length; ++i)
+            components[i].configure(contexts.get(i).annotatedType());
+    }
+
+    /**
+     * @param index position of the component among the constructor parameters or fields
+     * @param random source of randomness to be used when generating the value
+     * @param status an object that can be used to influence the generated value
+     * @return a generated value for the component
+     */
+    protected final Object component(int index, SourceOfRandomness random, GenerationStatus status) {
+        return components[index].generate(random, status);
+    }
+
+    /**
+     * @param index position of the component among the constructor parameters or fields
+     * @param random source of randomness to be used when generating the value
+     * @param status an object that can be used to influence the generated value
+     * @return a generated value for the component, unboxed if its generator supports that
+     * @see PrimitiveBooleanGenerator
+     */
+    protected final boolean booleanComponent(int index, SourceOfRandomness random, GenerationStatus status) {
+        Generator<?> sole = soles[index];
+        return sole instanceof PrimitiveBooleanGenerator
+            ? ((PrimitiveBooleanGenerator) sole).generateBoolean(random, status)
+            : (Boolean) component(index, random, status);
+    }
+
+    /**
+     * @param index position of the component among the constructor parameters or fields
+     * @param random source of randomness to be used when generating the value
+     * @param status an object that can be used to influence the generated value
+     * @return a generated value for the component, unboxed if its generator supports that
+     * @see PrimitiveByteGenerator
+     */
+    protected final byte byteComponent(int index, SourceOfRandomness random, GenerationStatus status) {
+        Generator<?> sole = soles[index];
+        return sole instanceof PrimitiveByteGenerator
+            ? ((PrimitiveByteGenerator) sole).generateByte(random, status)
+            : (Byte) component(index, random, status);
+    }
+
+    /**
+     * @param index position of the component among the constructor parameters or fields
+     * @param random source of randomness to be used when generating the value
+     * @param status an object that can be used to influence the generated value
+     * @return a generated value for the component, unboxed if its generator supports that
+     * @see PrimitiveCharGenerator
+     */
+    protected final char charComponent(int index, SourceOfRandomness random, GenerationStatus status) {
+        Generator<?> sole = soles[index];
+        return sole instanceof PrimitiveCharGenerator
+            ? ((PrimitiveCharGenerator) sole).generateChar(random, status)
+            : (Character) component(index, random, status);
+    }
+
+    /**
+     * @param index position of the component among the constructor parameters or fields
+     * @param random source of randomness to be used when generating the value
+     * @param status an object that can be used to influence the generated value
+     * @return a generated value for the component, unboxed if its generator supports that
+     * @see PrimitiveDoubleGenerator
+     */
+    protected final double doubleComponent(int index, SourceOfRandomness random, GenerationStatus status) {
+        Generator<?> sole = soles[index];
+        return sole instanceof PrimitiveDoubleGenerator
+            ? ((PrimitiveDoubleGenerator) sole).generateDouble(random, status)
+            : (Double) component(index, random, status);
+    }
+
+    /**
+     * @param index position of the component among the constructor parameters or fields
+     * @param random source of randomness to be used when generating the value
+     * @param status an object that can be used to influence the generated value
+     * @return a generated value for the component, unboxed if its generator supports that
+     * @see PrimitiveFloatGenerator
+     */
+    protected final float floatComponent(int index, SourceOfRandomness random, GenerationStatus status) {
+        Generator<?> sole = soles[index];
+        return sole instanceof PrimitiveFloatGenerator
+            ? ((PrimitiveFloatGenerator) sole).generateFloat(random, status)
+            : (Float) component(index, random, status);
+    }
+
+    /**
+     * @param index position of the component among the constructor parameters or fields
+     * @param random source of randomness to be used when generating the value
+     * @param status an object that can be used to influence the generated value
+     * @return a generated value for the component, unboxed if its generator supports that
+     * @see PrimitiveIntGenerator
+     */
+    protected final int intComponent(int index, SourceOfRandomness random, GenerationStatus status) {
+        Generator<?> sole = soles[index];
+        return sole instanceof PrimitiveIntGenerator
+            ? ((PrimitiveIntGenerator) sole).generateInt(random, status)
+            : (Integer) component(index, random, status);
+    }
+
+    /**
+     * @param index position of the component among the constructor parameters or fields
+     * @param random source of randomness to be used when generating the value
+     * @param status an object that can be used to influence the generated value
+     * @return a generated value for the component, unboxed if its generator supports that
+     * @see PrimitiveLongGenerator
+     */
+    protected final long longComponent(int index, SourceOfRandomness random, GenerationStatus status) {
+        Generator<?> sole = soles[index];
+        return sole instanceof PrimitiveLongGenerator
+            ? ((PrimitiveLongGenerator) sole).generateLong(random, status)
+            : (Long) component(index, random, status);
+    }
+
+    /**
+     * @param index position of the component among the constructor parameters or fields
+     * @param random source of randomness to be used when generating the value
+     * @param status an object that can be used to influence the generated value
+     * @return a generated value for the component, unboxed if its generator supports that
+     * @see PrimitiveShortGenerator
+     */
+    protected final short shortComponent(int index, SourceOfRandomness random, GenerationStatus status) {
+        Generator<?> sole = soles[index];
+        return sole instanceof PrimitiveShortGenerator
+            ? ((PrimitiveShortGenerator) sole).generateShort(random, status)
+            : (Short) component(index, random, status);
+    }
+}
@@ -25,6 +25,7 @@
 
 package com.pholser.junit.quickcheck.generator;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
@@ -54,6 +55,7 @@ import static com.pholser.junit.quickcheck.internal.Reflection.*;
  */
 public class Fields<T> extends Generator<T> {
     private final List<Field> fields;
+    private final List<MethodHandle> setters = new ArrayList<>();
     private final List<Generator<?>> fieldGenerators = new ArrayList<>();
 
     /**
@@ -65,16 +67,17 @@ public class Fields<T> extends Generator<T> {
         this.fields = allDeclaredFieldsOf(type);
 
         instantiate(type);
+
+        for (Field each : fields)
+            setters.add(fieldSetter(each));
     }
 
     @Override public T generate(SourceOfRandomness random, GenerationStatus status) {
         Class<T> type = types().get(0);
         Object generated = instantiate(type);
 
-        for (Field each : fields) {
-            ParameterContext parameter = parameterContext(each);
-            setField(each, generated, generatorFor(parameter).generate(random, status), true);
-        }
+        for (int i = 0; i < fields.size(); ++i)
+            setField(setters.get(i), generated, fieldGenerators.get(i).generate(random, status));
 
         return type.cast(generated);
     }
@@ -0,0 +1,74 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.generator;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.*;
+import static java.lang.annotation.RetentionPolicy.*;
+
+/**
+ * <p>Mark a class with this annotation to have {@code junit-quickcheck-processor} emit, at compile time, a
+ * dedicated generator for the class. The generator calls the class's constructor, or assigns its fields, directly
+ * with values from generators resolved once per theory parameter -- the compile-time counterpart of
+ * {@link Ctor} and {@link Fields}. Problems that those generators would report during a test run, such as the
+ * lack of a single accessible constructor, are reported as compilation errors instead.</p>
+ *
+ * <p>The generator is emitted into the class's package, named after the class's simple name (joined to the
+ * simple names of any enclosing classes by {@code _}) followed by {@code _Generator}: for example,
+ * {@code Point_Generator} for {@code Point}, and {@code Shapes_Point_Generator} for {@code Shapes.Point}. A theory
+ * parameter of a marked type, for which no other generator is available, uses the emitted generator
+ * automatically; it can also be named in {@link com.pholser.junit.quickcheck.From}.</p>
+ *
+ * <p>The marked class must be a concrete, non-generic, top-level or {@code static} nested class that is not
+ * {@code private}.</p>
+ */
+@Target(TYPE)
+@Retention(RUNTIME)
+public @interface Generable {
+    /**
+     * @return how instances of the marked class are built
+     */
+    Strategy value() default Strategy.CONSTRUCTOR;
+
+    /**
+     * Ways of building instances of a {@link Generable} class.
+     */
+    enum Strategy {
+        /**
+         * Invoke the class's single non-{@code private} constructor with generated arguments.
+         */
+        CONSTRUCTOR,
+
+        /**
+         * Invoke the class's zero-arg constructor, then give a generated value to every instance field of the class
+         * and its superclasses, either by assigning the field or, if it is not accessible, by calling its
+         * {@code set}<em>Name</em> method.
+         */
+        FIELDS
+    }
+}
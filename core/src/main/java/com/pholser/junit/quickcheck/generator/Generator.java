@@ -32,10 +32,10 @@ import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import org.javaruntype.type.ExtendsTypeParameter;
 import org.javaruntype.type.StandardTypeParameter;
 import org.javaruntype.type.TypeParameter;
-import org.javaruntype.type.Types;
 import org.javaruntype.type.WildcardTypeParameter;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.AnnotatedArrayType;
 import java.lang.reflect.AnnotatedParameterizedType;
 import java.lang.reflect.AnnotatedType;
@@ -47,10 +47,15 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
 
 import static com.pholser.junit.quickcheck.internal.Reflection.*;
+import static com.pholser.junit.quickcheck.internal.TypeTokens.*;
+import static java.lang.invoke.MethodType.*;
 import static java.util.Collections.*;
-import static java.util.stream.Collectors.*;
 
 /**
  * Produces values for theory parameters.
@@ -58,6 +63,17 @@ import static java.util.stream.Collectors.*;
  * @param <T> type of theory parameter to apply this generator's values to
  */
 public abstract class Generator<T> {
+    /*
+     * Per generator class, the configure method for each configuration annotation type, if there is one, looked up
+     * once rather than at every level of every componentized type configured.
+     */
+    private static final ClassValue<ConcurrentMap<Class<?>, Optional<MethodHandle>>> CONFIGURERS =
+        new ClassValue<ConcurrentMap<Class<?>, Optional<MethodHandle>>>() {
+            @Override protected ConcurrentMap<Class<?>, Optional<MethodHandle>> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
     private final List<Class<T>> types = new ArrayList<>();
     private GeneratorRepository repo;
 
@@ -110,6 +126,27 @@ public abstract class Generator<T> {
      */
     public abstract T generate(SourceOfRandomness random, GenerationStatus status);
 
+    /**
+     * <p>Produces several values for a theory parameter, handing each to a sink as soon as it is generated.</p>
+     *
+     * <p>The values must be the same, and must be drawn from {@code random} in the same order, as if
+     * {@link #generate(SourceOfRandomness, GenerationStatus)} were called {@code count} times in a row. Because the
+     * sink may act on each value before the next is generated -- for example, by checking it against a constraint --
+     * implementations should consult {@code status} afresh for each value.</p>
+     *
+     * <p>This default implementation does exactly that, one call at a time. Generators can override it to produce
+     * values in a tighter loop.</p>
+     *
+     * @param random a source of randomness to be used when generating the values
+     * @param status an object that the generator can use to influence the values it produces
+     * @param count how many values to generate
+     * @param sink receives the generated values, in order
+     */
+    public void generate(SourceOfRandomness random, GenerationStatus status, int count, Consumer<? super T> sink) {
+        for (int i = 0; i < count; ++i)
+            sink.accept(generate(random, status));
+    }
+
     /**
      * @return whether this generator has component generators, such as for those generators that produce lists or
      * arrays.
@@ -160,16 +197,16 @@ public abstract class Generator<T> {
 
         if (parameter instanceof StandardTypeParameter<?>) {
             StandardTypeParameter<?> standard = (StandardTypeParameter<?>) parameter;
-            return standard.getType().isAssignableFrom(Types.forJavaLangReflectType(clazz));
+            return standard.getType().isAssignableFrom(tokenOf(clazz));
         }
 
         if (parameter instanceof ExtendsTypeParameter<?>) {
             ExtendsTypeParameter<?> extend = (ExtendsTypeParameter<?>) parameter;
-            return Types.forJavaLangReflectType(clazz).isAssignableFrom(extend.getType());
+            return tokenOf(clazz).isAssignableFrom(extend.getType());
         }
 
         // must be "? super X"
-        return parameter.getType().isAssignableFrom(Types.forJavaLangReflectType(clazz));
+        return parameter.getType().isAssignableFrom(tokenOf(clazz));
     }
 
     /**
@@ -191,13 +228,11 @@ public abstract class Generator<T> {
      * @param annotatedType a type usage
      */
     public void configure(AnnotatedType annotatedType) {
-        List<Annotation> configs = allAnnotations(annotatedType).stream()
-                .filter(a -> a.annotationType().isAnnotationPresent(GeneratorConfiguration.class))
-                .collect(toList());
-
         Map<Class<? extends Annotation>, Annotation> byType = new HashMap<>();
-        for (Annotation each : configs)
-            byType.put(each.annotationType(), each);
+        for (Annotation each : allAnnotations(annotatedType)) {
+            if (each.annotationType().isAnnotationPresent(GeneratorConfiguration.class))
+                byType.put(each.annotationType(), each);
+        }
 
         configure(byType);
     }
@@ -208,15 +243,29 @@ public abstract class Generator<T> {
     }
 
     private void configure(Class<? extends Annotation> annotationType, Annotation configuration) {
+        Optional<MethodHandle> configurer =
+            CONFIGURERS.get(getClass()).computeIfAbsent(annotationType, a -> configurerFor(getClass(), a));
+        if (!configurer.isPresent())
+            return;
+
+        try {
+            configurer.get().invokeExact(this, configuration);
+        } catch (Throwable ex) {
+            throw new ReflectionException(ex);
+        }
+    }
+
+    private static Optional<MethodHandle> configurerFor(Class<?> generatorType, Class<?> annotationType) {
         Method configurer;
 
         try {
-            configurer = findMethod(getClass(), "configure", annotationType);
+            configurer = findMethod(generatorType, "configure", annotationType);
         } catch (ReflectionException ex) {
-            return;
+            return Optional.empty();
         }
 
-        invoke(configurer, this, configuration);
+        return Optional.of(
+            methodHandle(configurer).asType(methodType(void.class, Generator.class, Annotation.class)));
     }
 
     protected final List<AnnotatedType> annotatedComponentTypes(AnnotatedType annotatedType) {
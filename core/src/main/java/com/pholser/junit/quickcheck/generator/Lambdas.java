@@ -25,21 +25,57 @@
 
 package com.pholser.junit.quickcheck.generator;
 
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.util.Arrays;
-import java.util.Random;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
 
+import com.pholser.junit.quickcheck.internal.ReflectionException;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.random.SplitMix64Random;
 
+import static com.pholser.junit.quickcheck.internal.Reflection.*;
+import static com.pholser.junit.quickcheck.random.SplitMix64Random.*;
 import static java.lang.System.*;
-import static java.lang.reflect.Proxy.newProxyInstance;
-import static com.pholser.junit.quickcheck.internal.Reflection.singleAbstractMethodOf;
+import static java.lang.invoke.MethodType.*;
+import static java.lang.reflect.Proxy.getProxyClass;
+import static java.util.Collections.*;
 
 /**
  * Helper class for creating instances of "functional interfaces".
  */
 public final class Lambdas {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final int MOST_SPUN_ARGUMENTS = 3;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    /*
+     * For each functional interface, a handle that makes an instance from a Body. Where the interface can be seen
+     * from here, LambdaMetafactory spins a class whose single method calls one of the generate methods below
+     * directly. Otherwise -- a non-public interface, one from a class loader this class cannot see, or one whose
+     * method takes more arguments than there are generate methods for -- instances are dynamic proxies, with the
+     * Body as their invocation handler.
+     */
+    private static final ClassValue<MethodHandle> FACTORIES = new ClassValue<MethodHandle>() {
+        @Override protected MethodHandle computeValue(Class<?> lambdaType) {
+            Method method = singleAbstractMethodOf(lambdaType);
+            if (method == null)
+                throw new IllegalArgumentException(lambdaType + " is not a functional interface type");
+
+            MethodHandle factory = spinnable(lambdaType, method)
+                ? spunFactory(lambdaType, method)
+                : proxyFactory(lambdaType);
+            return factory.asSpreader(Object[].class, 1).asType(methodType(Object.class, Object[].class));
+        }
+    };
+
+    private static final ThreadLocal<SourceOfRandomness> IDLE_SOURCES = new ThreadLocal<>();
+
     private Lambdas() {
         throw new UnsupportedOperationException();
     }
@@ -47,7 +83,12 @@ public final class Lambdas {
     /**
      * <p>Creates an instance of a given "functional interface" type, whose single abstract method returns values of
      * the type produced by the given generator. The arguments to the lambda's single method will be used to seed
-     * a random generator that will be used to generate the return value of that method.</p>
+     * a random generator that will be used to generate the return value of that method. Calls with equal arguments
+     * therefore give equal return values.</p>
+     *
+     * <p>Lambdas made this way all start from the same seed, so that lambdas of the same type with the same
+     * generator agree with each other. {@link #makeLambda(Class, Generator, SourceOfRandomness, GenerationStatus)}
+     * gives each lambda its own.</p>
      *
      * <p>junit-quickcheck uses this to create random values for theory parameters whose type is determined to be a
      * "functional interface" (an interface with a single abstract method that does not override a method from
@@ -67,37 +108,154 @@ public final class Lambdas {
         Generator<U> returnValueGenerator,
         GenerationStatus status) {
 
-        if (singleAbstractMethodOf(lambdaType) == null)
-            throw new IllegalArgumentException(lambdaType + " is not a functional interface type");
+        return make(lambdaType, new Body<>(lambdaType, returnValueGenerator, status, 0L));
+    }
 
-        return lambdaType.cast(newProxyInstance(
-            lambdaType.getClassLoader(),
-            new Class<?>[] { lambdaType },
-            new LambdaInvocationHandler<>(lambdaType, returnValueGenerator, status)));
+    /**
+     * <p>Creates an instance of a given "functional interface" type, whose single abstract method returns values of
+     * the type produced by the given generator. A seed for the lambda is drawn from the given source of randomness;
+     * that seed, mixed with the arguments to the lambda's single method, seeds a random generator that will be used
+     * to generate the return value of that method. Calls with equal arguments therefore give equal return values,
+     * but different lambdas give different values for the same arguments.</p>
+     *
+     * @param lambdaType a functional interface type token
+     * @param returnValueGenerator a generator for the return type of the functional interface's single method
+     * @param random a source of randomness from which to draw the lambda's seed
+     * @param status an object to be passed along to the generator that will produce the functional interface's
+     * method return value
+     * @param <T> the functional interface type token
+     * @param <U> the type of the generated return value of the functional interface method
+     * @return an instance of the functional interface type, whose single method will return a generated value
+     * @throws IllegalArgumentException if {@code lambdaType} is not a functional interface type
+     */
+    public static <T, U> T makeLambda(
+        Class<T> lambdaType,
+        Generator<U> returnValueGenerator,
+        SourceOfRandomness random,
+        GenerationStatus status) {
+
+        return make(lambdaType, new Body<>(lambdaType, returnValueGenerator, status, random.nextLong()));
     }
 
-    private static class LambdaInvocationHandler<T, U> implements InvocationHandler {
-        private final Class<T> lambdaType;
+    private static <T> T make(Class<T> lambdaType, Body<?> body) {
+        return lambdaType.cast(instantiate(FACTORIES.get(lambdaType), new Object[] {body}));
+    }
+
+    private static boolean spinnable(Class<?> lambdaType, Method method) {
+        if (!Modifier.isPublic(lambdaType.getModifiers()) || !visible(lambdaType) || !visible(method.getReturnType()))
+            return false;
+        if (method.getParameterCount() > MOST_SPUN_ARGUMENTS)
+            return false;
+
+        for (Class<?> each : method.getParameterTypes()) {
+            if (!visible(each))
+                return false;
+        }
+        return true;
+    }
+
+    private static boolean visible(Class<?> type) {
+        if (type.isPrimitive())
+            return true;
+        if (type.isArray())
+            return visible(type.getComponentType());
+
+        try {
+            return Class.forName(type.getName(), false, Lambdas.class.getClassLoader()) == type;
+        } catch (ClassNotFoundException ex) {
+            return false;
+        }
+    }
+
+    private static MethodHandle spunFactory(Class<?> lambdaType, Method method) {
+        int arity = method.getParameterCount();
+        MethodType erased = methodType(method.getReturnType(), method.getParameterTypes());
+
+        try {
+            MethodHandle implementation = LOOKUP.findStatic(
+                Lambdas.class,
+                "generate" + arity,
+                methodType(Object.class, Body.class).appendParameterTypes(nCopies(arity, Object.class)));
+
+            return LambdaMetafactory.metafactory(
+                LOOKUP,
+                method.getName(),
+                methodType(lambdaType, Body.class),
+                erased,
+                implementation,
+                erased).getTarget();
+        } catch (NoSuchMethodException | IllegalAccessException | LambdaConversionException ex) {
+            throw new ReflectionException(ex);
+        }
+    }
+
+    private static MethodHandle proxyFactory(Class<?> lambdaType) {
+        try {
+            return constructorHandle(
+                getProxyClass(lambdaType.getClassLoader(), lambdaType).getConstructor(InvocationHandler.class));
+        } catch (NoSuchMethodException ex) {
+            throw new ReflectionException(ex);
+        }
+    }
+
+    private static long mix(long seed, Object argument) {
+        return mix64((seed ^ Objects.hashCode(argument)) + GOLDEN_GAMMA);
+    }
+
+    private static Object generate0(Body<?> body) {
+        return body.generate(body.seed);
+    }
+
+    private static Object generate1(Body<?> body, Object first) {
+        return body.generate(mix(body.seed, first));
+    }
+
+    private static Object generate2(Body<?> body, Object first, Object second) {
+        return body.generate(mix(mix(body.seed, first), second));
+    }
+
+    private static Object generate3(Body<?> body, Object first, Object second, Object third) {
+        return body.generate(mix(mix(mix(body.seed, first), second), third));
+    }
+
+    private static final class Body<U> implements InvocationHandler {
+        private final Class<?> lambdaType;
         private final Generator<U> returnValueGenerator;
         private final GenerationStatus status;
+        private final long seed;
 
-        LambdaInvocationHandler(
-                Class<T> lambdaType,
-                Generator<U> returnValueGenerator,
-                GenerationStatus status) {
-
+        Body(Class<?> lambdaType, Generator<U> returnValueGenerator, GenerationStatus status, long seed) {
             this.lambdaType = lambdaType;
             this.returnValueGenerator = returnValueGenerator;
             this.status = status;
+            this.seed = seed;
+        }
+
+        U generate(long key) {
+            SourceOfRandomness source = IDLE_SOURCES.get();
+            if (source == null)
+                source = new SourceOfRandomness(new SplitMix64Random());
+            else
+                IDLE_SOURCES.set(null);
+
+            try {
+                source.setSeed(key);
+                return returnValueGenerator.generate(source, status);
+            } finally {
+                IDLE_SOURCES.set(source);
+            }
         }
 
         @Override public Object invoke(Object proxy, Method method, Object[] args) {
             if (Object.class.equals(method.getDeclaringClass()))
                 return handleObjectMethod(proxy, method, args);
 
-            SourceOfRandomness source = new SourceOfRandomness(new Random());
-            source.setSeed(Arrays.hashCode(args));
-            return returnValueGenerator.generate(source, status);
+            long key = seed;
+            if (args != null) {
+                for (Object each : args)
+                    key = mix(key, each);
+            }
+            return generate(key);
         }
 
         private Object handleObjectMethod(Object proxy, Method method, Object[] args) {
@@ -0,0 +1,65 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.generator;
+
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+
+/**
+ * <p>Optional contract for {@linkplain Generator generators} that can produce {@code double} values without boxing
+ * them.</p>
+ *
+ * <p>Array generation, {@link Ctor} and {@link DerivedGenerator} call {@link #generateDouble(SourceOfRandomness,
+ * GenerationStatus)} directly whenever they need a {@code double} from a generator that implements this interface,
+ * unless the generator's class overrides {@link Generator#generate(SourceOfRandomness, GenerationStatus) generate}
+ * below the class that declares {@code generateDouble}; then they call {@code generate} instead. Implementors should
+ * give the same values from {@code generate} as from {@code generateDouble} for the same source of randomness.</p>
+ */
+@FunctionalInterface
+public interface PrimitiveDoubleGenerator {
+    /**
+     * Generates an unboxed {@code double}.
+     *
+     * @param random source of randomness to be used when generating the value
+     * @param status an object that can be used to influence the generated value
+     * @return the generated value
+     */
+    double generateDouble(SourceOfRandomness random, GenerationStatus status);
+
+    /**
+     * <p>Fills an array with generated {@code double}s.</p>
+     *
+     * <p>This default implementation calls {@link #generateDouble(SourceOfRandomness, GenerationStatus)} once per
+     * element. Implementors can override it with a faster bulk fill that honors the same configuration.</p>
+     *
+     * @param target the array to fill
+     * @param random source of randomness to be used when generating the values
+     * @param status an object that can be used to influence the generated values
+     */
+    default void generateDoubles(double[] target, SourceOfRandomness random, GenerationStatus status) {
+        for (int i = 0; i < target.length; ++i)
+            target[i] = generateDouble(random, status);
+    }
+}
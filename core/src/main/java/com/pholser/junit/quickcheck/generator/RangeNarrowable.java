@@ -0,0 +1,51 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.generator;
+
+import java.math.BigDecimal;
+
+/**
+ * <p>Optional contract for {@linkplain Generator generators} of numbers that can confine the values they produce to
+ * a range.</p>
+ *
+ * <p>When a theory parameter's {@link com.pholser.junit.quickcheck.ForAll#suchThat() constraint expression} bounds
+ * the parameter with simple comparisons against constants, such as {@code "#_ > 1000 && #_ < 2000"}, the bounds are
+ * handed to the parameter's generator, if it implements this interface, before any values are generated. Values
+ * outside the bounds then need not be generated and discarded. The constraint is still checked for every value, so
+ * narrowing is an optimization only: an implementation may narrow less than asked, or not at all.</p>
+ */
+public interface RangeNarrowable {
+    /**
+     * Confines subsequently generated values to those within the given bounds, in addition to any range the
+     * generator is already configured with.
+     *
+     * @param lower lower bound of the values, or {@code null} if there is none
+     * @param lowerInclusive whether values may equal {@code lower}
+     * @param upper upper bound of the values, or {@code null} if there is none
+     * @param upperInclusive whether values may equal {@code upper}
+     */
+    void narrowRange(BigDecimal lower, boolean lowerInclusive, BigDecimal upper, boolean upperInclusive);
+}
@@ -0,0 +1,45 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.generator;
+
+/**
+ * <p>Optional contract for {@linkplain Generator generators} of collections or maps that can confine the sizes of the
+ * values they produce.</p>
+ *
+ * <p>When a theory parameter's {@link com.pholser.junit.quickcheck.ForAll#suchThat() constraint expression} bounds
+ * the parameter's {@code size()} with simple comparisons against constants, such as {@code "#_.size() >= 3"}, the
+ * bounds are handed to the parameter's generator, if it implements this interface, before any values are
+ * generated. As with {@link RangeNarrowable}, the constraint is still checked for every value.</p>
+ */
+public interface SizeNarrowable {
+    /**
+     * Confines the sizes of subsequently generated values to the given inclusive bounds.
+     *
+     * @param min least size of the values
+     * @param max greatest size of the values
+     */
+    void narrowSize(int min, int max);
+}
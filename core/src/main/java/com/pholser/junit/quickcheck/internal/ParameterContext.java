@@ -33,6 +33,8 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
 
 import static java.lang.String.format;
 import static java.util.Collections.*;
@@ -40,7 +42,6 @@ import static java.util.Collections.*;
 import com.pholser.junit.quickcheck.ForAll;
 import com.pholser.junit.quickcheck.From;
 import com.pholser.junit.quickcheck.generator.Generator;
-import org.javaruntype.type.Types;
 
 import static com.pholser.junit.quickcheck.internal.Reflection.*;
 
@@ -57,7 +58,10 @@ public class ParameterContext {
     private SampleSizer sampleSizer;
     private int discardRatio;
     private String constraint;
+    @SuppressWarnings("rawtypes") private Class<? extends Predicate> predicateType;
     private long seed = (long) Reflection.defaultValueOf(ForAll.class, "seed");
+    private Class<? extends Random> randomType = Random.class;
+    private int trial;
 
     public ParameterContext(
         String parameterName,
@@ -78,11 +82,17 @@ public class ParameterContext {
         return this;
     }
 
+    public ParameterContext startingAtTrial(int index) {
+        this.trial = index;
+        return this;
+    }
+
     public ParameterContext addQuantifier(ForAll quantifier) {
         if (quantifier != null) {
             this.configuredSampleSize = quantifier.sampleSize();
             this.discardRatio = quantifier.discardRatio();
             this.seed = quantifier.seed();
+            this.randomType = quantifier.random();
         }
 
         return this;
@@ -91,6 +101,8 @@ public class ParameterContext {
     public ParameterContext addConstraint(ForAll quantifier) {
         if (quantifier != null && !defaultValueOf(ForAll.class, "suchThat").equals(quantifier.suchThat()))
             constraint = quantifier.suchThat();
+        if (quantifier != null && !defaultValueOf(ForAll.class, "satisfying").equals(quantifier.satisfying()))
+            predicateType = quantifier.satisfying();
 
         return this;
     }
@@ -122,10 +134,10 @@ public class ParameterContext {
     }
 
     private void ensureCorrectType(Generator<?> generator) {
-        org.javaruntype.type.Type<?> parameterTypeToken = Types.forJavaLangReflectType(type());
+        Class<?> rawParameterType = TypeTokens.rawClassOf(type());
 
         for (Class<?> each : generator.types()) {
-            if (!maybeWrap(parameterTypeToken.getRawClass()).isAssignableFrom(maybeWrap(each))) {
+            if (!maybeWrap(rawParameterType).isAssignableFrom(maybeWrap(each))) {
                 throw new IllegalArgumentException(
                     format(
                         EXPLICIT_GENERATOR_TYPE_MISMATCH_MESSAGE,
@@ -163,6 +175,11 @@ public class ParameterContext {
         return constraint;
     }
 
+    @SuppressWarnings("unchecked")
+    public Predicate<Object> makeConstraintPredicate() {
+        return predicateType == null ? null : instantiate(predicateType);
+    }
+
     public boolean fixedSeed() {
         return seed != (long) Reflection.defaultValueOf(ForAll.class, "seed");
     }
@@ -171,6 +188,18 @@ public class ParameterContext {
         return seed;
     }
 
+    public int trial() {
+        return trial;
+    }
+
+    public boolean defaultRandomType() {
+        return randomType.equals(Reflection.defaultValueOf(ForAll.class, "random"));
+    }
+
+    public Class<? extends Random> randomType() {
+        return randomType;
+    }
+
     public List<Weighted<Generator<?>>> explicitGenerators() {
         return unmodifiableList(explicits);
     }
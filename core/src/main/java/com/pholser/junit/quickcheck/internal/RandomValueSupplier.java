@@ -25,36 +25,126 @@
 
 package com.pholser.junit.quickcheck.internal;
 
+import com.pholser.junit.quickcheck.internal.generator.GeneratorInstrumentation;
 import com.pholser.junit.quickcheck.internal.generator.GeneratorRepository;
 import com.pholser.junit.quickcheck.internal.generator.RandomTheoryParameterGenerator;
-import com.pholser.junit.quickcheck.internal.generator.ServiceLoaderGeneratorSource;
+import com.pholser.junit.quickcheck.internal.generator.ZippedAssignments;
+import com.pholser.junit.quickcheck.metrics.GenerationListener;
+import com.pholser.junit.quickcheck.metrics.JsonGenerationListener;
+import com.pholser.junit.quickcheck.metrics.Slf4jGenerationListener;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import org.junit.contrib.theories.ParameterSignature;
 import org.junit.contrib.theories.ParameterSupplier;
 import org.junit.contrib.theories.PotentialAssignment;
 import org.slf4j.LoggerFactory;
 
+import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
 public class RandomValueSupplier extends ParameterSupplier {
-    private final RandomTheoryParameterGenerator generator;
+    static final String RANDOM_TYPE_PROPERTY = "junit-quickcheck.random";
+    static final String METRICS_LISTENER_PROPERTY = "junit-quickcheck.metrics.listener";
+    static final String METRICS_JSON_PROPERTY = "junit-quickcheck.metrics.json";
+    static final String INSTRUMENTATION_PROPERTY = "junit-quickcheck.instrument-generators";
 
-    /* Called by JUnit reflectively. */
-    public RandomValueSupplier() {
-        SourceOfRandomness random = new SourceOfRandomness(new Random());
-        generator = new RandomTheoryParameterGenerator(
+    private static final ThreadLocal<Integer> TRIAL = ThreadLocal.withInitial(() -> 0);
+
+    @Override public List<PotentialAssignment> getValueSources(ParameterSignature signature) {
+        ParameterContext parameter = parameterContext(signature);
+        return newGenerator(parameter).stream(parameter);
+    }
+
+    public static Iterable<List<PotentialAssignment>> getZippedValueSources(List<ParameterSignature> signatures) {
+        List<ParameterContext> parameters = new ArrayList<>();
+        List<RandomTheoryParameterGenerator> generators = new ArrayList<>();
+
+        for (ParameterSignature each : signatures) {
+            ParameterContext parameter = parameterContext(each);
+            parameters.add(parameter);
+            generators.add(newGenerator(parameter));
+        }
+
+        return new ZippedAssignments(parameters, generators);
+    }
+
+    /*
+     * The theories runner asks for a parameter's values afresh for every combination of the parameters before it.
+     * A runner that knows which trial the values it asks for next begin at says so here, on the thread that asks;
+     * the parameter's seed is derived from it. Without it, every request for a parameter's values gets the same
+     * seed.
+     */
+    public static void startingAtTrial(int trial) {
+        TRIAL.set(trial);
+    }
+
+    public static void anyTrial() {
+        TRIAL.remove();
+    }
+
+    private static RandomTheoryParameterGenerator newGenerator(ParameterContext parameter) {
+        if (Boolean.getBoolean(INSTRUMENTATION_PROPERTY)) {
+            GeneratorInstrumentation instrumentation = GeneratorInstrumentation.shared();
+            SourceOfRandomness random = new SourceOfRandomness(instrumentation.counting(newRandom(parameter)));
+            return newGenerator(
+                random,
+                GeneratorRepository.withServiceLoadedGenerators(random).instrument(instrumentation));
+        }
+
+        SourceOfRandomness random = new SourceOfRandomness(newRandom(parameter));
+        return newGenerator(random, GeneratorRepository.withServiceLoadedGenerators(random));
+    }
+
+    private static RandomTheoryParameterGenerator newGenerator(
+        SourceOfRandomness random,
+        GeneratorRepository repository) {
+
+        return new RandomTheoryParameterGenerator(
             random,
-            new GeneratorRepository(random)
-                .register(new ServiceLoaderGeneratorSource()),
+            repository,
             new GeometricDistribution(),
-            LoggerFactory.getLogger("junit-quickcheck.seed-reporting"));
+            LoggerFactory.getLogger("junit-quickcheck.seed-reporting"),
+            newListener());
     }
 
-    @Override public List<PotentialAssignment> getValueSources(ParameterSignature signature) {
-        ParameterContext parameter =
-            new ParameterContext(signature.getName(), signature.getAnnotatedType(), signature.getDeclarerName())
-                .annotate(signature);
-        return generator.generate(parameter);
+    static Random newRandom(ParameterContext parameter) {
+        if (!parameter.defaultRandomType())
+            return Reflection.instantiate(parameter.randomType());
+
+        String configured = System.getProperty(RANDOM_TYPE_PROPERTY);
+        if (configured == null || configured.isEmpty())
+            return new Random();
+
+        try {
+            return Reflection.instantiate(Class.forName(configured).asSubclass(Random.class));
+        } catch (ClassNotFoundException | ClassCastException ex) {
+            throw new ReflectionException(ex);
+        }
+    }
+
+    static GenerationListener newListener() {
+        GenerationListener listener = new Slf4jGenerationListener();
+
+        String configured = System.getProperty(METRICS_LISTENER_PROPERTY);
+        if (configured != null && !configured.isEmpty()) {
+            try {
+                listener = Reflection.instantiate(Class.forName(configured).asSubclass(GenerationListener.class));
+            } catch (ClassNotFoundException | ClassCastException ex) {
+                throw new ReflectionException(ex);
+            }
+        }
+
+        String jsonFile = System.getProperty(METRICS_JSON_PROPERTY);
+        if (jsonFile != null && !jsonFile.isEmpty())
+            listener = listener.andThen(new JsonGenerationListener(Paths.get(jsonFile)));
+
+        return listener;
+    }
+
+    private static ParameterContext parameterContext(ParameterSignature signature) {
+        return new ParameterContext(signature.getName(), signature.getAnnotatedType(), signature.getDeclarerName())
+            .annotate(signature)
+            .startingAtTrial(TRIAL.get());
     }
 }
@@ -25,9 +25,12 @@
 
 package com.pholser.junit.quickcheck.internal;
 
+import java.math.BigDecimal;
 import java.math.BigInteger;
 
 import static java.lang.String.*;
+import static java.math.BigDecimal.*;
+import static java.math.RoundingMode.*;
 
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 
@@ -50,13 +53,77 @@ public final class Ranges {
 
     public static <T extends Comparable<? super T>> int checkRange(Type type, T min, T max) {
         int comparison = min.compareTo(max);
+        if (comparison > 0)
+            throw badRange(type, min, max);
+        return comparison;
+    }
+
+    public static int checkRange(Type type, long min, long max) {
+        int comparison = Long.compare(min, max);
         if (comparison > 0) {
-            throw new IllegalArgumentException(
-                format("bad range, %" + type.pattern + " > %" + type.pattern, min, max));
+            throw type == Type.CHARACTER
+                ? badRange(type, (char) min, (char) max)
+                : badRange(type, min, max);
         }
         return comparison;
     }
 
+    private static IllegalArgumentException badRange(Type type, Object min, Object max) {
+        return new IllegalArgumentException(format("bad range, %" + type.pattern + " > %" + type.pattern, min, max));
+    }
+
+    public static long choose(SourceOfRandomness random, long min, long max) {
+        long range = max - min + 1;
+
+        if (range == 0)
+            return random.nextLong();
+        if (range > 0 && range <= 0x100000000L)
+            return min + chooseBelow(random, range);
+
+        // range does not fit in 32 bits: reject draws that would bias the remainder
+        if (range > 0) {
+            long bound = range - 1;
+            if ((range & bound) == 0)
+                return min + (random.nextLong() & bound);
+
+            long generated;
+            long remainder;
+            do {
+                generated = random.nextLong() >>> 1;
+                remainder = generated % range;
+            } while (generated - remainder + bound < 0);
+
+            return min + remainder;
+        }
+
+        // range exceeds Long.MAX_VALUE: at least half of all draws land within it
+        long generated;
+        do {
+            generated = random.nextLong();
+        } while (generated < min || generated > max);
+
+        return generated;
+    }
+
+    /*
+     * Lemire's multiply-shift with rejection; range is in [1, 2^32].
+     * See "Fast Random Integer Generation in an Interval", ACM TOMACS 29(1), 2019.
+     */
+    private static long chooseBelow(SourceOfRandomness random, long range) {
+        long product = (random.nextInt() & 0xFFFFFFFFL) * range;
+        long low = product & 0xFFFFFFFFL;
+
+        if (low < range) {
+            long threshold = (0x100000000L - range) % range;
+            while (low < threshold) {
+                product = (random.nextInt() & 0xFFFFFFFFL) * range;
+                low = product & 0xFFFFFFFFL;
+            }
+        }
+
+        return product >>> 32;
+    }
+
     public static BigInteger choose(SourceOfRandomness random, BigInteger min, BigInteger max) {
         BigInteger range = max.subtract(min).add(BigInteger.ONE);
         BigInteger generated;
@@ -67,4 +134,44 @@ public final class Ranges {
 
         return generated.add(min);
     }
+
+    public static BigInteger leastIntegerSatisfying(BigDecimal lower, boolean inclusive) {
+        BigDecimal ceiling = lower.setScale(0, CEILING);
+        if (!inclusive && ceiling.compareTo(lower) == 0)
+            ceiling = ceiling.add(ONE);
+        return ceiling.toBigIntegerExact();
+    }
+
+    public static BigInteger greatestIntegerSatisfying(BigDecimal upper, boolean inclusive) {
+        BigDecimal floor = upper.setScale(0, FLOOR);
+        if (!inclusive && floor.compareTo(upper) == 0)
+            floor = floor.subtract(ONE);
+        return floor.toBigIntegerExact();
+    }
+
+    public static long narrowedMin(long current, BigDecimal lower, boolean inclusive) {
+        if (lower == null)
+            return current;
+
+        BigInteger least = leastIntegerSatisfying(lower, inclusive);
+        if (least.compareTo(BigInteger.valueOf(current)) <= 0)
+            return current;
+        return least.bitLength() < Long.SIZE ? least.longValue() : Long.MAX_VALUE;
+    }
+
+    public static long narrowedMax(long current, BigDecimal upper, boolean inclusive) {
+        if (upper == null)
+            return current;
+
+        BigInteger greatest = greatestIntegerSatisfying(upper, inclusive);
+        if (greatest.compareTo(BigInteger.valueOf(current)) >= 0)
+            return current;
+        return greatest.bitLength() < Long.SIZE ? greatest.longValue() : Long.MIN_VALUE;
+    }
+
+    public static int narrowedSize(int size, int min, int max) {
+        if (size >= min && size <= max)
+            return size;
+        return min + size % (max - min + 1);
+    }
 }
@@ -28,6 +28,8 @@ package com.pholser.junit.quickcheck.internal;
 import org.javaruntype.type.Type;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -42,9 +44,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import static java.lang.invoke.MethodType.*;
 import static java.security.AccessController.*;
-import static java.util.Arrays.*;
+import static java.util.Collections.*;
 import static java.util.stream.Collectors.*;
 
 public final class Reflection {
@@ -61,6 +66,19 @@ public final class Reflection {
         PRIMITIVES.put(Short.TYPE, Short.class);
     }
 
+    private static final ClassValue<List<Annotation>> CLASS_ANNOTATIONS =
+        new ClassValue<List<Annotation>>() {
+            @Override protected List<Annotation> computeValue(Class<?> type) {
+                return unmodifiableList(collectAllAnnotations(type));
+            }
+        };
+    private static final ClassValue<ConcurrentMap<Class<?>, List<?>>> CLASS_ANNOTATIONS_BY_TYPE =
+        new ClassValue<ConcurrentMap<Class<?>, List<?>>>() {
+            @Override protected ConcurrentMap<Class<?>, List<?>> computeValue(Class<?> type) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
     private Reflection() {
         throw new UnsupportedOperationException();
     }
@@ -103,6 +121,60 @@ public final class Reflection {
         }
     }
 
+    public static MethodHandle spreadConstructor(Constructor<?> ctor) {
+        return unreflectConstructor(ctor)
+            .asSpreader(Object[].class, ctor.getParameterCount())
+            .asType(methodType(Object.class, Object[].class));
+    }
+
+    public static Object instantiate(MethodHandle spreadConstructor, Object[] args) {
+        try {
+            return spreadConstructor.invokeExact(args);
+        } catch (Throwable ex) {
+            throw new ReflectionException(ex);
+        }
+    }
+
+    /*
+     * A handle that takes the constructor's arguments as they are declared, primitives unboxed, and wraps anything
+     * the constructor throws in ReflectionException.
+     */
+    public static MethodHandle constructorHandle(Constructor<?> ctor) {
+        MethodHandle constructor = unreflectConstructor(ctor);
+
+        try {
+            MethodHandle wrapAndThrow = MethodHandles.filterArguments(
+                MethodHandles.throwException(constructor.type().returnType(), ReflectionException.class),
+                0,
+                MethodHandles.lookup().findConstructor(
+                    ReflectionException.class,
+                    methodType(void.class, Throwable.class)));
+
+            return MethodHandles.catchException(
+                constructor,
+                Throwable.class,
+                MethodHandles.dropArguments(wrapAndThrow, 1, constructor.type().parameterList()));
+        } catch (Exception ex) {
+            throw reflectionException(ex);
+        }
+    }
+
+    private static MethodHandle unreflectConstructor(final Constructor<?> ctor) {
+        doPrivileged((PrivilegedAction<Void>) () -> {
+            ctor.setAccessible(true);
+            return null;
+        });
+
+        try {
+            if (Modifier.isAbstract(ctor.getDeclaringClass().getModifiers()))
+                throw new InstantiationException(ctor.getDeclaringClass().getName());
+
+            return MethodHandles.lookup().unreflectConstructor(ctor);
+        } catch (Exception ex) {
+            throw reflectionException(ex);
+        }
+    }
+
     public static Set<Type<?>> supertypes(Type<?> bottom) {
         Set<Type<?>> supertypes = new HashSet<>();
         supertypes.add(bottom);
@@ -118,36 +190,56 @@ public final class Reflection {
         }
     }
 
+    /*
+     * The annotations on an element, each followed by its own meta-annotations, transitively. Results for classes
+     * -- in particular, for the annotation types reached while recursing -- are computed once and shared, and must
+     * not be modified.
+     */
     public static List<Annotation> allAnnotations(AnnotatedElement e) {
-        List<Annotation> thisAnnotations =
-            asList(e.getAnnotations()).stream()
-                .filter(a -> !a.annotationType().getName().startsWith("java.lang.annotation"))
-                .collect(toList());
+        if (e instanceof Class<?>)
+            return CLASS_ANNOTATIONS.get((Class<?>) e);
+
+        return collectAllAnnotations(e);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T extends Annotation> List<T> allAnnotationsByType(AnnotatedElement e, Class<T> type) {
+        if (e instanceof Class<?>) {
+            return (List<T>) CLASS_ANNOTATIONS_BY_TYPE.get((Class<?>) e)
+                .computeIfAbsent(type, k -> unmodifiableList(collectAllAnnotationsByType(e, type)));
+        }
 
+        return collectAllAnnotationsByType(e, type);
+    }
+
+    private static List<Annotation> collectAllAnnotations(AnnotatedElement e) {
         List<Annotation> annotations = new ArrayList<>();
-        for (Annotation each : thisAnnotations) {
-            annotations.add(each);
-            annotations.addAll(allAnnotations(each.annotationType()));
+        for (Annotation each : e.getAnnotations()) {
+            if (!isLanguageAnnotation(each)) {
+                annotations.add(each);
+                annotations.addAll(allAnnotations(each.annotationType()));
+            }
         }
 
         return annotations;
     }
 
-    public static <T extends Annotation> List<T> allAnnotationsByType(AnnotatedElement e, Class<T> type) {
+    private static <T extends Annotation> List<T> collectAllAnnotationsByType(AnnotatedElement e, Class<T> type) {
         List<T> annotations = new ArrayList<>();
         Collections.addAll(annotations, e.getAnnotationsByType(type));
 
-        List<Annotation> thisAnnotations =
-                asList(e.getAnnotations()).stream()
-                        .filter(a -> !a.annotationType().getName().startsWith("java.lang.annotation"))
-                        .collect(toList());
-
-        for (Annotation each : thisAnnotations)
-            annotations.addAll(allAnnotationsByType(each.annotationType(), type));
+        for (Annotation each : e.getAnnotations()) {
+            if (!isLanguageAnnotation(each))
+                annotations.addAll(allAnnotationsByType(each.annotationType(), type));
+        }
 
         return annotations;
     }
 
+    private static boolean isLanguageAnnotation(Annotation a) {
+        return a.annotationType().getName().startsWith("java.lang.annotation");
+    }
+
     public static Method findMethod(Class<?> target, String methodName, Class<?>... argTypes) {
         try {
             return target.getMethod(methodName, argTypes);
@@ -164,6 +256,19 @@ public final class Reflection {
         }
     }
 
+    public static MethodHandle methodHandle(final Method method) {
+        doPrivileged((PrivilegedAction<Void>) () -> {
+            method.setAccessible(true);
+            return null;
+        });
+
+        try {
+            return MethodHandles.lookup().unreflect(method);
+        } catch (Exception ex) {
+            throw reflectionException(ex);
+        }
+    }
+
     public static List<Field> allDeclaredFieldsOf(Class<?> type) {
         List<Field> allFields = new ArrayList<>();
 
@@ -191,6 +296,36 @@ public final class Reflection {
         }
     }
 
+    public static MethodHandle fieldSetter(final Field field) {
+        doPrivileged((PrivilegedAction<Void>) () -> {
+            field.setAccessible(true);
+            return null;
+        });
+
+        try {
+            if (Modifier.isStatic(field.getModifiers()) && Modifier.isFinal(field.getModifiers()))
+                throw new IllegalAccessException("Cannot set static final field " + field);
+
+            MethodHandle setter = MethodHandles.lookup().unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers()))
+                setter = MethodHandles.dropArguments(setter, 0, Object.class);
+
+            return setter.asType(methodType(void.class, Object.class, Object.class));
+        } catch (Exception ex) {
+            throw reflectionException(ex);
+        }
+    }
+
+    public static void setField(MethodHandle setter, Object target, Object value) {
+        try {
+            setter.invokeExact(target, value);
+        } catch (RuntimeException | Error ex) {
+            throw ex;
+        } catch (Throwable ex) {
+            throw new ReflectionException(ex);
+        }
+    }
+
     public static Method singleAbstractMethodOf(Class<?> rawClass) {
         if (!rawClass.isInterface())
             return null;
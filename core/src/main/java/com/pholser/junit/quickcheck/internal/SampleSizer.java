@@ -26,14 +26,12 @@
 package com.pholser.junit.quickcheck.internal;
 
 import com.pholser.junit.quickcheck.generator.ValuesOf;
-import org.javaruntype.type.Types;
 
 class SampleSizer {
     private final int sampleSize;
 
     SampleSizer(int configuredSampleSize, ParameterContext parameter) {
-        org.javaruntype.type.Type<?> parameterType = Types.forJavaLangReflectType(parameter.type());
-        Class<?> raw = parameterType.getRawClass();
+        Class<?> raw = TypeTokens.rawClassOf(parameter.type());
 
         if (parameter.annotatedWith(ValuesOf.class)) {
             if (boolean.class.equals(raw) || Boolean.class.equals(raw))
@@ -0,0 +1,68 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import com.pholser.junit.quickcheck.random.SplitMix64Random;
+import org.slf4j.LoggerFactory;
+
+public final class Seeds {
+    static final String SUITE_SEED_PROPERTY = "junit-quickcheck.seed";
+
+    private static final long FNV_OFFSET_BASIS = 0xCBF29CE484222325L;
+    private static final long FNV_PRIME = 0x100000001B3L;
+
+    private static final long SUITE_SEED = initialSuiteSeed();
+
+    private Seeds() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static long suite() {
+        return SUITE_SEED;
+    }
+
+    public static long forParameter(String parameterName, int trial) {
+        return forParameter(SUITE_SEED, parameterName, trial);
+    }
+
+    static long forParameter(long suite, String parameterName, long ordinal) {
+        long key = FNV_OFFSET_BASIS;
+        for (int i = 0; i < parameterName.length(); ++i)
+            key = (key ^ parameterName.charAt(i)) * FNV_PRIME;
+
+        return new SplitMix64Random(suite ^ new SplitMix64Random(key + ordinal).nextLong()).nextLong();
+    }
+
+    private static long initialSuiteSeed() {
+        String configured = System.getProperty(SUITE_SEED_PROPERTY);
+        long seed = configured == null || configured.isEmpty()
+            ? new SplitMix64Random(System.nanoTime()).nextLong()
+            : Long.parseLong(configured.trim());
+
+        LoggerFactory.getLogger("junit-quickcheck.seed-reporting").debug("Suite seed is {}", seed);
+        return seed;
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.javaruntype.type.Types;
+
+import static java.util.Arrays.*;
+
+/*
+ * javaruntype builds a type token by rendering the reflected type to a string and parsing it back, which shows up
+ * in startup profiles since the same parameter, component and candidate types are tokenized over and over. Tokens
+ * are immutable, so they are cached in ClassValues, which live only as long as the class they hang off. A class's
+ * own token hangs off that class. A generic type's token mentions every class in the type, so it hangs off the one
+ * whose class loader can see all the others: the cache then keeps alive no class loader that the class does not
+ * already. Generic types with no such class, or with type variables, are tokenized afresh every time.
+ */
+public final class TypeTokens {
+    private static final ClassValue<org.javaruntype.type.Type<?>> CLASS_TOKENS =
+        new ClassValue<org.javaruntype.type.Type<?>>() {
+            @Override protected org.javaruntype.type.Type<?> computeValue(Class<?> type) {
+                return Types.forJavaLangReflectType(type);
+            }
+        };
+    private static final ClassValue<ConcurrentMap<Type, org.javaruntype.type.Type<?>>> GENERIC_TOKENS =
+        new ClassValue<ConcurrentMap<Type, org.javaruntype.type.Type<?>>>() {
+            @Override protected ConcurrentMap<Type, org.javaruntype.type.Type<?>> computeValue(Class<?> owner) {
+                return new ConcurrentHashMap<>();
+            }
+        };
+
+    private TypeTokens() {
+        throw new UnsupportedOperationException();
+    }
+
+    public static org.javaruntype.type.Type<?> tokenOf(Type type) {
+        if (type instanceof Class<?>)
+            return CLASS_TOKENS.get((Class<?>) type);
+
+        Class<?> owner = ownerOf(type);
+        if (owner == null)
+            return Types.forJavaLangReflectType(type);
+
+        return GENERIC_TOKENS.get(owner).computeIfAbsent(type, Types::forJavaLangReflectType);
+    }
+
+    /*
+     * The raw class of a type. Classes and parameterized types, which most theory parameters are, need no token.
+     */
+    public static Class<?> rawClassOf(Type type) {
+        if (type instanceof Class<?>)
+            return (Class<?>) type;
+        if (type instanceof ParameterizedType)
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+
+        return tokenOf(type).getRawClass();
+    }
+
+    private static Class<?> ownerOf(Type type) {
+        List<Class<?>> mentioned = new ArrayList<>();
+        if (!collectClasses(type, mentioned))
+            return null;
+
+        Class<?> owner = mentioned.get(0);
+        for (Class<?> each : mentioned) {
+            if (sees(owner.getClassLoader(), each.getClassLoader()))
+                continue;
+            if (!sees(each.getClassLoader(), owner.getClassLoader()))
+                return null;
+
+            owner = each;
+        }
+        return owner;
+    }
+
+    private static boolean collectClasses(Type type, List<Class<?>> classes) {
+        if (type instanceof Class<?>) {
+            classes.add((Class<?>) type);
+            return true;
+        }
+
+        List<Type> parts = partsOf(type);
+        if (parts == null)
+            return false;
+
+        for (Type each : parts) {
+            if (!collectClasses(each, classes))
+                return false;
+        }
+        return true;
+    }
+
+    private static List<Type> partsOf(Type type) {
+        List<Type> parts = new ArrayList<>();
+
+        if (type instanceof ParameterizedType) {
+            ParameterizedType parameterized = (ParameterizedType) type;
+            parts.add(parameterized.getRawType());
+            if (parameterized.getOwnerType() != null)
+                parts.add(parameterized.getOwnerType());
+            parts.addAll(asList(parameterized.getActualTypeArguments()));
+        } else if (type instanceof GenericArrayType) {
+            parts.add(((GenericArrayType) type).getGenericComponentType());
+        } else if (type instanceof WildcardType) {
+            parts.addAll(asList(((WildcardType) type).getUpperBounds()));
+            parts.addAll(asList(((WildcardType) type).getLowerBounds()));
+        } else {
+            return null;
+        }
+
+        return parts;
+    }
+
+    // Whether the given loader is, or delegates to, the other; the bootstrap loader, null, is seen by every loader.
+    private static boolean sees(ClassLoader loader, ClassLoader other) {
+        for (ClassLoader each = loader; each != null; each = each.getParent()) {
+            if (each == other)
+                return true;
+        }
+        return other == null;
+    }
+}
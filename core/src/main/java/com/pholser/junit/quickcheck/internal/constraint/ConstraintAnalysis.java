@@ -0,0 +1,398 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.constraint;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.generator.RangeNarrowable;
+import com.pholser.junit.quickcheck.generator.SizeNarrowable;
+import com.pholser.junit.quickcheck.internal.generator.CompositeGenerator;
+import ognl.ASTAnd;
+import ognl.ASTChain;
+import ognl.ASTMethod;
+import ognl.ASTVarRef;
+import ognl.ComparisonExpression;
+import ognl.Node;
+import ognl.Ognl;
+import ognl.OgnlContext;
+import ognl.OgnlException;
+import ognl.SimpleNode;
+
+import static com.pholser.junit.quickcheck.internal.Ranges.*;
+
+public class ConstraintAnalysis {
+    private static final Map<String, Object> PARSED = new ConcurrentHashMap<>();
+    private static final Map<String, Node> COMPILED = new ConcurrentHashMap<>();
+    private static final Set<Class<?>> INTEGRAL_TYPES = new HashSet<>(Arrays.asList(
+        byte.class, Byte.class, short.class, Short.class, int.class, Integer.class, long.class, Long.class));
+    private static final Set<Class<?>> FLOATING_TYPES = new HashSet<>(Arrays.asList(
+        float.class, Float.class, double.class, Double.class));
+    private static final BigInteger MIN_LONG = BigInteger.valueOf(Long.MIN_VALUE);
+    private static final BigInteger MAX_LONG = BigInteger.valueOf(Long.MAX_VALUE);
+
+    private final Class<?> parameterType;
+    private final List<Object> residual = new ArrayList<>();
+    private final boolean split;
+    private final OgnlContext constants = new OgnlContext();
+
+    private boolean nonNull;
+    private BigDecimal lower;
+    private boolean lowerInclusive;
+    private BigDecimal upper;
+    private boolean upperInclusive;
+    private boolean sized;
+    private long minSize;
+    private long maxSize = Integer.MAX_VALUE;
+
+    public ConstraintAnalysis(String expression, Type parameterType) {
+        this.parameterType = rawClassOf(parameterType);
+
+        if (expression == null) {
+            split = false;
+            return;
+        }
+
+        Object parsed = PARSED.computeIfAbsent(expression, ConstraintAnalysis::parse);
+        List<Node> conjuncts = new ArrayList<>();
+        addConjuncts((Node) parsed, conjuncts);
+
+        for (Node each : conjuncts) {
+            if (!absorb(each))
+                residual.add(compiled(each.toString(), each));
+        }
+
+        split = residual.size() < conjuncts.size();
+        if (!split) {
+            residual.clear();
+            residual.add(compiled(expression, (Node) parsed));
+        }
+    }
+
+    public List<Object> residual() {
+        return residual;
+    }
+
+    public boolean split() {
+        return split;
+    }
+
+    public Predicate<Object> predicate() {
+        Predicate<Object> predicate = null;
+
+        if (nonNull)
+            predicate = Objects::nonNull;
+        if (lower != null || upper != null)
+            predicate = and(predicate, rangePredicate());
+        if (sized)
+            predicate = and(predicate, sizePredicate(minSize, maxSize));
+
+        return predicate;
+    }
+
+    public void narrow(Generator<?> generator) {
+        if (generator instanceof CompositeGenerator) {
+            CompositeGenerator composite = (CompositeGenerator) generator;
+            for (int i = 0; i < composite.numberOfComponentGenerators(); ++i)
+                narrow(composite.componentGenerator(i));
+            return;
+        }
+
+        if ((lower != null || upper != null) && generator instanceof RangeNarrowable)
+            ((RangeNarrowable) generator).narrowRange(lower, lowerInclusive, upper, upperInclusive);
+        if (sized && minSize <= maxSize && generator instanceof SizeNarrowable)
+            ((SizeNarrowable) generator).narrowSize((int) minSize, (int) maxSize);
+    }
+
+    static Predicate<Object> and(Predicate<Object> first, Predicate<Object> second) {
+        if (first == null)
+            return second;
+        if (second == null)
+            return first;
+        return first.and(second);
+    }
+
+    private static Object parse(String expression) {
+        try {
+            return Ognl.parseExpression(expression);
+        } catch (OgnlException ex) {
+            throw new ConstraintEvaluator.EvaluationException(ex);
+        }
+    }
+
+    private static Node compiled(String expression, Node parsed) {
+        return COMPILED.computeIfAbsent(expression, key -> compile(key, parsed));
+    }
+
+    // Expressions that OGNL cannot compile to bytecode are interpreted from their parse trees instead.
+    private static Node compile(String expression, Node parsed) {
+        try {
+            return Ognl.compileExpression(new OgnlContext(), null, expression);
+        } catch (Exception ex) {
+            return parsed;
+        }
+    }
+
+    private static Class<?> rawClassOf(Type type) {
+        if (type instanceof Class<?>)
+            return (Class<?>) type;
+        if (type instanceof ParameterizedType)
+            return (Class<?>) ((ParameterizedType) type).getRawType();
+        return Object.class;
+    }
+
+    private static void addConjuncts(Node node, List<Node> conjuncts) {
+        if (node instanceof ASTAnd) {
+            for (int i = 0; i < node.jjtGetNumChildren(); ++i)
+                addConjuncts(node.jjtGetChild(i), conjuncts);
+        } else
+            conjuncts.add(node);
+    }
+
+    private boolean absorb(Node node) {
+        if (!(node instanceof ComparisonExpression) || node.jjtGetNumChildren() != 2)
+            return false;
+
+        String operator = ((ComparisonExpression) node).getExpressionOperator(0);
+        Node subject = node.jjtGetChild(0);
+        Node bound = node.jjtGetChild(1);
+        if (isConstant(subject) && !isConstant(bound))
+            return absorb(bound, Comparison.reversed(operator), subject);
+
+        return isConstant(bound) && absorb(subject, operator, bound);
+    }
+
+    private boolean absorb(Node subject, String operator, Node bound) {
+        Object value;
+        try {
+            value = Ognl.getValue(bound, constants, (Object) null);
+        } catch (OgnlException ex) {
+            return false;
+        }
+
+        if (isParameter(subject))
+            return value == null ? absorbNullComparison(operator) : absorbParameterComparison(operator, value);
+        return isSizeOfParameter(subject) && absorbSizeComparison(operator, value);
+    }
+
+    private boolean absorbNullComparison(String operator) {
+        if (!"!=".equals(operator))
+            return false;
+
+        nonNull = true;
+        return true;
+    }
+
+    private boolean absorbParameterComparison(String operator, Object value) {
+        Comparison comparison = Comparison.of(operator);
+        BigDecimal bound = numericBound(value);
+        if (comparison == null || bound == null)
+            return false;
+
+        if (comparison.boundsBelow)
+            tightenLower(bound, comparison.inclusive);
+        if (comparison.boundsAbove)
+            tightenUpper(bound, comparison.inclusive);
+        return true;
+    }
+
+    private BigDecimal numericBound(Object value) {
+        boolean numericParameter = INTEGRAL_TYPES.contains(parameterType) || FLOATING_TYPES.contains(parameterType);
+        if (!numericParameter || !(value instanceof Number))
+            return null;
+
+        try {
+            return new BigDecimal(value.toString());
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private boolean absorbSizeComparison(String operator, Object value) {
+        Comparison comparison = Comparison.of(operator);
+        if (comparison == null || !hasSize(parameterType) || !isIntegral(value))
+            return false;
+
+        long bound = ((Number) value).longValue();
+        long min = comparison.boundsBelow ? comparison.inclusive ? bound : bound + 1 : Long.MIN_VALUE;
+        long max = comparison.boundsAbove ? comparison.inclusive ? bound : bound - 1 : Long.MAX_VALUE;
+        return tightenSize(min, max);
+    }
+
+    private static boolean hasSize(Class<?> type) {
+        return Collection.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type);
+    }
+
+    private static boolean isIntegral(Object value) {
+        return value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte;
+    }
+
+    private void tightenLower(BigDecimal bound, boolean inclusive) {
+        int comparison = lower == null ? 1 : bound.compareTo(lower);
+        if (comparison > 0 || comparison == 0 && !inclusive) {
+            lower = bound;
+            lowerInclusive = inclusive;
+        }
+    }
+
+    private void tightenUpper(BigDecimal bound, boolean inclusive) {
+        int comparison = upper == null ? -1 : bound.compareTo(upper);
+        if (comparison < 0 || comparison == 0 && !inclusive) {
+            upper = bound;
+            upperInclusive = inclusive;
+        }
+    }
+
+    private boolean tightenSize(long min, long max) {
+        sized = true;
+        minSize = Math.max(minSize, min);
+        maxSize = Math.min(maxSize, max);
+        return true;
+    }
+
+    private Predicate<Object> rangePredicate() {
+        return FLOATING_TYPES.contains(parameterType) ? floatingRangePredicate() : integralRangePredicate();
+    }
+
+    private Predicate<Object> floatingRangePredicate() {
+        double least = lower == null ? Double.NEGATIVE_INFINITY : lower.doubleValue();
+        double greatest = upper == null ? Double.POSITIVE_INFINITY : upper.doubleValue();
+        boolean leastIncluded = lower == null || lowerInclusive;
+        boolean greatestIncluded = upper == null || upperInclusive;
+
+        return value -> value instanceof Number
+            && atLeast(((Number) value).doubleValue(), least, leastIncluded)
+            && atMost(((Number) value).doubleValue(), greatest, greatestIncluded);
+    }
+
+    private static boolean atLeast(double d, double least, boolean included) {
+        return d > least || included && d == least;
+    }
+
+    private static boolean atMost(double d, double greatest, boolean included) {
+        return d < greatest || included && d == greatest;
+    }
+
+    private Predicate<Object> integralRangePredicate() {
+        BigInteger least = lower == null ? MIN_LONG : leastIntegerSatisfying(lower, lowerInclusive).max(MIN_LONG);
+        BigInteger greatest = upper == null ? MAX_LONG : greatestIntegerSatisfying(upper, upperInclusive).min(MAX_LONG);
+        if (least.compareTo(greatest) > 0)
+            return value -> false;
+
+        long min = least.longValue();
+        long max = greatest.longValue();
+        return value -> value instanceof Number && ((Number) value).longValue() >= min
+            && ((Number) value).longValue() <= max;
+    }
+
+    private static Predicate<Object> sizePredicate(long min, long max) {
+        return value -> {
+            long size;
+            if (value instanceof Collection<?>)
+                size = ((Collection<?>) value).size();
+            else if (value instanceof Map<?, ?>)
+                size = ((Map<?, ?>) value).size();
+            else
+                return false;
+
+            return size >= min && size <= max;
+        };
+    }
+
+    private boolean isConstant(Node node) {
+        try {
+            return ((SimpleNode) node).isConstant(constants);
+        } catch (OgnlException ex) {
+            return false;
+        }
+    }
+
+    private static boolean isParameter(Node node) {
+        return node instanceof ASTVarRef && "#_".equals(node.toString());
+    }
+
+    private static boolean isSizeOfParameter(Node node) {
+        if (!(node instanceof ASTChain) || node.jjtGetNumChildren() != 2)
+            return false;
+
+        Node call = node.jjtGetChild(1);
+        return isParameter(node.jjtGetChild(0))
+            && call instanceof ASTMethod
+            && "size".equals(((ASTMethod) call).getMethodName())
+            && call.jjtGetNumChildren() == 0;
+    }
+
+    /*
+     * The comparison operators whose constant operand can bound a parameter's value or size.
+     */
+    private enum Comparison {
+        LESS("<", false, true, false),
+        AT_MOST("<=", false, true, true),
+        EQUAL("==", true, true, true),
+        AT_LEAST(">=", true, false, true),
+        GREATER(">", true, false, false);
+
+        private final String operator;
+        private final boolean boundsBelow;
+        private final boolean boundsAbove;
+        private final boolean inclusive;
+
+        Comparison(String operator, boolean boundsBelow, boolean boundsAbove, boolean inclusive) {
+            this.operator = operator;
+            this.boundsBelow = boundsBelow;
+            this.boundsAbove = boundsAbove;
+            this.inclusive = inclusive;
+        }
+
+        static Comparison of(String operator) {
+            for (Comparison each : values()) {
+                if (each.operator.equals(operator))
+                    return each;
+            }
+
+            return null;
+        }
+
+        /* The operator that compares the same operands the same way once they are swapped. */
+        static String reversed(String operator) {
+            Comparison comparison = of(operator);
+            return comparison == null ? operator : values()[values().length - 1 - comparison.ordinal()].operator;
+        }
+    }
+}
@@ -25,33 +25,57 @@
 
 package com.pholser.junit.quickcheck.internal.constraint;
 
+import java.util.List;
+import java.util.function.Predicate;
+
 import ognl.Ognl;
 import ognl.OgnlContext;
 import ognl.OgnlException;
+import ognl.OgnlOps;
 
 public class ConstraintEvaluator {
-    private final Object constraint;
+    private final List<Object> constraints;
+    private final boolean split;
+    private final Predicate<Object> predicate;
     private final OgnlContext bindings;
+    private Object bound;
 
     public ConstraintEvaluator(String expression) {
-        try {
-            constraint = expression == null ? null : Ognl.parseExpression(expression);
-            bindings = new ConstraintOgnlContext();
-        } catch (OgnlException ex) {
-            throw new EvaluationException(ex);
-        }
+        this(expression, null);
+    }
+
+    public ConstraintEvaluator(String expression, Predicate<Object> predicate) {
+        this(new ConstraintAnalysis(expression, Object.class), predicate);
+    }
+
+    public ConstraintEvaluator(ConstraintAnalysis analysis, Predicate<Object> predicate) {
+        this.constraints = analysis.residual();
+        this.split = analysis.split();
+        this.predicate = ConstraintAnalysis.and(analysis.predicate(), predicate);
+        this.bindings = new ConstraintOgnlContext();
     }
 
     public boolean evaluate() {
+        if (predicate != null && !predicate.test(bound))
+            return false;
+
         try {
-            return constraint == null || (Boolean) Ognl.getValue(constraint, bindings, (Object) null);
+            for (Object each : constraints) {
+                Object result = Ognl.getValue(each, bindings, (Object) null);
+                if (!(split ? OgnlOps.booleanValue(result) : (Boolean) result))
+                    return false;
+            }
+
+            return true;
         } catch (OgnlException ex) {
             throw new EvaluationException(ex);
         }
     }
 
     public void bind(Object value) {
-        bindings.put("_", value);
+        bound = value;
+        if (!constraints.isEmpty())
+            bindings.put("_", value);
     }
 
     public static class EvaluationException extends RuntimeException {
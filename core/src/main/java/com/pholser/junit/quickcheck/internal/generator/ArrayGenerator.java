@@ -31,8 +31,18 @@ import java.util.List;
 
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.generator.PrimitiveBooleanGenerator;
+import com.pholser.junit.quickcheck.generator.PrimitiveByteGenerator;
+import com.pholser.junit.quickcheck.generator.PrimitiveCharGenerator;
+import com.pholser.junit.quickcheck.generator.PrimitiveDoubleGenerator;
+import com.pholser.junit.quickcheck.generator.PrimitiveFloatGenerator;
+import com.pholser.junit.quickcheck.generator.PrimitiveIntGenerator;
+import com.pholser.junit.quickcheck.generator.PrimitiveLongGenerator;
+import com.pholser.junit.quickcheck.generator.PrimitiveShortGenerator;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 
+import static com.pholser.junit.quickcheck.internal.generator.CompositeGenerator.*;
+
 public class ArrayGenerator extends Generator<Object> {
     private final Class<?> componentType;
     private final Generator<?> component;
@@ -45,13 +55,67 @@ public class ArrayGenerator extends Generator<Object> {
     }
 
     @Override public Object generate(SourceOfRandomness random, GenerationStatus status) {
-        Object array = Array.newInstance(componentType, status.size());
-        for (int i = 0; i < Array.getLength(array); ++i)
+        int length = status.size();
+        if (componentType.isPrimitive()) {
+            Object primitives = generatePrimitives(length, random, status);
+            if (primitives != null)
+                return primitives;
+        }
+
+        Object array = Array.newInstance(componentType, length);
+        for (int i = 0; i < length; ++i)
             Array.set(array, i, component.generate(random, status));
 
         return array;
     }
 
+    private Object generatePrimitives(int length, SourceOfRandomness random, GenerationStatus status) {
+        Generator<?> sole = unboxingComponentOf(component);
+
+        if (componentType == int.class && sole instanceof PrimitiveIntGenerator) {
+            int[] array = new int[length];
+            ((PrimitiveIntGenerator) sole).generateInts(array, random, status);
+            return array;
+        }
+        if (componentType == long.class && sole instanceof PrimitiveLongGenerator) {
+            long[] array = new long[length];
+            ((PrimitiveLongGenerator) sole).generateLongs(array, random, status);
+            return array;
+        }
+        if (componentType == double.class && sole instanceof PrimitiveDoubleGenerator) {
+            double[] array = new double[length];
+            ((PrimitiveDoubleGenerator) sole).generateDoubles(array, random, status);
+            return array;
+        }
+        if (componentType == float.class && sole instanceof PrimitiveFloatGenerator) {
+            float[] array = new float[length];
+            ((PrimitiveFloatGenerator) sole).generateFloats(array, random, status);
+            return array;
+        }
+        if (componentType == short.class && sole instanceof PrimitiveShortGenerator) {
+            short[] array = new short[length];
+            ((PrimitiveShortGenerator) sole).generateShorts(array, random, status);
+            return array;
+        }
+        if (componentType == byte.class && sole instanceof PrimitiveByteGenerator) {
+            byte[] array = new byte[length];
+            ((PrimitiveByteGenerator) sole).generateBytes(array, random, status);
+            return array;
+        }
+        if (componentType == char.class && sole instanceof PrimitiveCharGenerator) {
+            char[] array = new char[length];
+            ((PrimitiveCharGenerator) sole).generateChars(array, random, status);
+            return array;
+        }
+        if (componentType == boolean.class && sole instanceof PrimitiveBooleanGenerator) {
+            boolean[] array = new boolean[length];
+            ((PrimitiveBooleanGenerator) sole).generateBooleans(array, random, status);
+            return array;
+        }
+
+        return null;
+    }
+
     @Override public void provideRepository(GeneratorRepository provided) {
         super.provideRepository(provided);
 
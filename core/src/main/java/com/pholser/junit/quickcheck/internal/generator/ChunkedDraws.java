@@ -0,0 +1,71 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.generator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+
+/*
+ * Hands out a parameter's values one at a time, drawing them from its generation context a bounded chunk at a
+ * time through the generator's batched generate, so that no more than a chunk of values is held at once.
+ */
+class ChunkedDraws {
+    static final int CHUNK_SIZE = 64;
+
+    private final GenerationContext gen;
+    private final SourceOfRandomness random;
+    private final List<Object> chunk = new ArrayList<>();
+    private int next;
+
+    ChunkedDraws(GenerationContext gen, SourceOfRandomness random) {
+        this.gen = gen;
+        this.random = random;
+    }
+
+    boolean hasNext() {
+        return next < chunk.size() || gen.shouldContinue();
+    }
+
+    Object next() {
+        if (next == chunk.size()) {
+            chunk.clear();
+            next = 0;
+            gen.generateChunk(random, CHUNK_SIZE, chunk::add);
+
+            if (chunk.isEmpty())
+                throw new NoSuchElementException();
+        }
+
+        return chunk.get(next++);
+    }
+
+    void finish() {
+        gen.finish();
+    }
+}
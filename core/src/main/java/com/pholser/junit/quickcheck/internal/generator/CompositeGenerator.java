@@ -28,14 +28,38 @@ package com.pholser.junit.quickcheck.internal.generator;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.internal.Items;
+import com.pholser.junit.quickcheck.internal.ReflectionException;
 import com.pholser.junit.quickcheck.internal.Weighted;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 
 import java.lang.reflect.AnnotatedType;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 public class CompositeGenerator extends Generator<Object> {
+    private static final String GENERATE = "generate";
+    private static final Class<?>[] GENERATE_PARAMETERS = {SourceOfRandomness.class, GenerationStatus.class};
+
+    /*
+     * Whether a generator class's unboxed generate methods, such as generateInt, can stand in for its generate():
+     * true unless a subclass overrides generate() below the class that declares one of them.
+     */
+    private static final ClassValue<Boolean> UNBOXES_FAITHFULLY =
+        new ClassValue<Boolean>() {
+            @Override protected Boolean computeValue(Class<?> type) {
+                Class<?> boxing = generateMethodOf(type).getDeclaringClass();
+                for (Method each : type.getMethods()) {
+                    if (generatesUnboxed(each) && !boxing.isAssignableFrom(each.getDeclaringClass()))
+                        return false;
+                }
+
+                return true;
+            }
+        };
+
     private final List<Weighted<Generator<?>>> components;
 
     public CompositeGenerator(List<Weighted<Generator<?>>> components) {
@@ -49,6 +73,18 @@ public class CompositeGenerator extends Generator<Object> {
         return choice.generate(random, status);
     }
 
+    @Override public void generate(
+        SourceOfRandomness random,
+        GenerationStatus status,
+        int count,
+        Consumer<? super Object> sink) {
+
+        if (components.size() == 1)
+            components.get(0).item.generate(random, status, count, sink);
+        else
+            super.generate(random, status, count, sink);
+    }
+
     public Generator<?> componentGenerator(int index) {
         return components.get(index).item;
     }
@@ -57,6 +93,39 @@ public class CompositeGenerator extends Generator<Object> {
         return components.size();
     }
 
+    public static Generator<?> soleComponentOf(Generator<?> generator) {
+        if (generator instanceof CompositeGenerator) {
+            CompositeGenerator composite = (CompositeGenerator) generator;
+            if (composite.numberOfComponentGenerators() == 1)
+                return soleComponentOf(composite.componentGenerator(0));
+        }
+
+        return generator;
+    }
+
+    /*
+     * The sole component of a generator, as soleComponentOf() gives it, if unboxed fast paths may call its
+     * primitive generate methods in place of its generate(); otherwise null.
+     */
+    public static Generator<?> unboxingComponentOf(Generator<?> generator) {
+        Generator<?> sole = soleComponentOf(generator);
+        return UNBOXES_FAITHFULLY.get(sole.getClass()) ? sole : null;
+    }
+
+    private static Method generateMethodOf(Class<?> type) {
+        try {
+            return type.getMethod(GENERATE, GENERATE_PARAMETERS);
+        } catch (NoSuchMethodException ex) {
+            throw new ReflectionException(ex);
+        }
+    }
+
+    private static boolean generatesUnboxed(Method method) {
+        return method.getName().startsWith(GENERATE)
+            && method.getReturnType().isPrimitive()
+            && Arrays.equals(method.getParameterTypes(), GENERATE_PARAMETERS);
+    }
+
     @Override public void provideRepository(GeneratorRepository provided) {
         super.provideRepository(provided);
 
@@ -29,10 +29,16 @@ import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.internal.GeometricDistribution;
 import com.pholser.junit.quickcheck.internal.ParameterContext;
+import com.pholser.junit.quickcheck.internal.constraint.ConstraintAnalysis;
 import com.pholser.junit.quickcheck.internal.constraint.ConstraintEvaluator;
+import com.pholser.junit.quickcheck.metrics.GenerationListener;
+import com.pholser.junit.quickcheck.metrics.GenerationMetrics;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 
+import java.util.function.Consumer;
+
 import static java.lang.Math.*;
+import static java.lang.System.*;
 
 public class GenerationContext implements GenerationStatus {
     private final ParameterContext parameter;
@@ -40,47 +46,122 @@ public class GenerationContext implements GenerationStatus {
     private final ConstraintEvaluator evaluator;
     private final SourceOfRandomness random;
     private final Generator<?> generator;
+    private final GenerationListener listener;
+    private final boolean gathered;
+    private final boolean timed;
     private int successfulEvaluations;
     private int discards;
+    private long generationNanos;
+    private long evaluationNanos;
+    private boolean finished;
 
     public GenerationContext(
         ParameterContext parameter,
         GeneratorRepository repository,
         GeometricDistribution distro,
-        SourceOfRandomness random) {
+        SourceOfRandomness random,
+        GenerationListener listener) {
 
         this.parameter = parameter;
         this.distro = distro;
-        this.evaluator = new ConstraintEvaluator(parameter.constraint());
+        ConstraintAnalysis analysis = new ConstraintAnalysis(parameter.constraint(), parameter.type());
+        this.evaluator = new ConstraintEvaluator(analysis, parameter.makeConstraintPredicate());
         this.random = random;
         this.generator = repository.produceGenerator(parameter);
+        this.listener = listener;
+        this.timed = listener.wantsTimings();
+        analysis.narrow(InstrumentedGenerator.uninstrumented(generator));
+        this.gathered = TheoryRunMetrics.gather(this);
     }
 
     public Object generate(SourceOfRandomness random) {
         Object nextValue;
 
-        for (nextValue = generator.generate(random, this);
+        for (nextValue = nextValue(random);
             !evaluate(nextValue) && shouldContinue();
-            nextValue = generator.generate(random, this));
+            nextValue = nextValue(random));
 
         return nextValue;
     }
 
+    public void generateSample(SourceOfRandomness random, Consumer<Object> sink) {
+        generateChunk(random, parameter.sampleSize(), sink);
+        finish();
+    }
+
+    // Hands the sink up to the given number of further values that satisfy the constraint, fewer only when the
+    // sample is complete.
+    public void generateChunk(SourceOfRandomness random, int limit, Consumer<Object> sink) {
+        int target = (int) min((long) successfulEvaluations + limit, parameter.sampleSize());
+
+        while (successfulEvaluations < target && shouldContinue()) {
+            long start = now();
+            long evaluatedBefore = evaluationNanos;
+
+            generator.generate(random, this, target - successfulEvaluations, value -> {
+                if (evaluate(value))
+                    sink.accept(value);
+            });
+
+            generationNanos += now() - start - (evaluationNanos - evaluatedBefore);
+        }
+    }
+
+    // Reports right away, unless the theory run is gathering metrics to report when it ends.
+    public void finish() {
+        if (finished)
+            return;
+
+        finished = true;
+        if (!gathered)
+            listener.generated(metrics());
+    }
+
+    GenerationMetrics metrics() {
+        return new GenerationMetrics(
+            parameter.name(),
+            parameter.sampleSize(),
+            successfulEvaluations,
+            discards,
+            generationNanos,
+            evaluationNanos);
+    }
+
+    GenerationListener listener() {
+        return listener;
+    }
+
+    private Object nextValue(SourceOfRandomness random) {
+        long start = now();
+        Object value = generator.generate(random, this);
+        generationNanos += now() - start;
+
+        return value;
+    }
+
     private boolean evaluate(Object value) {
+        long start = now();
         evaluator.bind(value);
         boolean result = evaluator.evaluate();
+        evaluationNanos += now() - start;
 
         if (result)
             ++successfulEvaluations;
         else
             ++discards;
 
-        if (tooManyDiscards())
+        if (tooManyDiscards()) {
+            finish();
             throw new DiscardRatioExceededException(parameter, discards, successfulEvaluations);
+        }
 
         return result;
     }
 
+    private long now() {
+        return timed ? nanoTime() : 0;
+    }
+
     public boolean shouldContinue() {
         return needMoreAttempts() && !tooManyDiscards();
     }
@@ -0,0 +1,59 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.generator;
+
+import java.lang.invoke.MethodHandle;
+
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.internal.ReflectionException;
+
+import static com.pholser.junit.quickcheck.internal.Reflection.*;
+
+/*
+ * Makes generators of a given class afresh, through a handle on the class's no-argument constructor that is looked
+ * up once per class.
+ */
+final class GeneratorConstructors {
+    private static final Object[] NO_ARGS = new Object[0];
+    private static final ClassValue<MethodHandle> NO_ARG_CONSTRUCTORS =
+        new ClassValue<MethodHandle>() {
+            @Override protected MethodHandle computeValue(Class<?> type) {
+                try {
+                    return spreadConstructor(type.getConstructor());
+                } catch (NoSuchMethodException ex) {
+                    throw new ReflectionException(ex);
+                }
+            }
+        };
+
+    private GeneratorConstructors() {
+        throw new UnsupportedOperationException();
+    }
+
+    static Generator<?> newGenerator(Class<?> generatorType) {
+        return (Generator<?>) instantiate(NO_ARG_CONSTRUCTORS.get(generatorType), NO_ARGS);
+    }
+}
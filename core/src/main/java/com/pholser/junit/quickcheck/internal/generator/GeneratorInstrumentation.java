@@ -0,0 +1,287 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.generator;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+import com.pholser.junit.quickcheck.generator.Generator;
+import org.slf4j.LoggerFactory;
+
+import static java.lang.Long.*;
+import static java.util.Comparator.*;
+
+public class GeneratorInstrumentation {
+    private static final String ROW = "%-60s %10s %12s %10s %10s %10s %12s %10s";
+    private static final ThreadLocal<long[]> DRAWS = ThreadLocal.withInitial(() -> new long[1]);
+    private static GeneratorInstrumentation shared;
+
+    private final ConcurrentMap<String, Statistics> statistics = new ConcurrentHashMap<>();
+    private final LongSupplier allocatedBytes = allocationCounter();
+
+    public static synchronized GeneratorInstrumentation shared() {
+        if (shared == null) {
+            GeneratorInstrumentation instrumentation = new GeneratorInstrumentation();
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                if (!instrumentation.statistics.isEmpty()) {
+                    LoggerFactory.getLogger("junit-quickcheck.generator-instrumentation")
+                        .info("{}", instrumentation.report());
+                }
+            }));
+            shared = instrumentation;
+        }
+
+        return shared;
+    }
+
+    public Random counting(Random random) {
+        return new CountingRandom(random);
+    }
+
+    public Generator<?> instrument(Generator<?> generator) {
+        return wrap(generator, statistics.computeIfAbsent(nameOf(generator), Statistics::new));
+    }
+
+    private <T> Generator<T> wrap(Generator<T> generator, Statistics stats) {
+        return new InstrumentedGenerator<>(generator, this, stats);
+    }
+
+    long draws() {
+        return DRAWS.get()[0];
+    }
+
+    long allocatedBytes() {
+        return allocatedBytes.getAsLong();
+    }
+
+    public String report() {
+        List<Statistics> sorted = new ArrayList<>(statistics.values());
+        sorted.sort(comparingLong(Statistics::totalNanos).reversed());
+
+        StringBuilder report = new StringBuilder(String.format(
+            "Generators by total time (each includes the generators it uses):%n" + ROW + "%n",
+            "generator", "calls", "total ms", "p50 us", "p90 us", "p99 us", "bytes/call", "draws/call"));
+
+        for (Statistics each : sorted)
+            report.append(each).append(String.format("%n"));
+
+        return report.toString();
+    }
+
+    Statistics statisticsFor(String generatorName) {
+        return statistics.get(generatorName);
+    }
+
+    static String nameOf(Generator<?> generator) {
+        Generator<?> sole = CompositeGenerator.soleComponentOf(generator);
+        if (!(sole instanceof CompositeGenerator))
+            return sole.getClass().getName();
+
+        CompositeGenerator composite = (CompositeGenerator) sole;
+        StringBuilder name = new StringBuilder(CompositeGenerator.class.getSimpleName()).append('[');
+        for (int i = 0; i < composite.numberOfComponentGenerators(); ++i) {
+            if (i > 0)
+                name.append('|');
+            name.append(nameOf(composite.componentGenerator(i)));
+        }
+        return name.append(']').toString();
+    }
+
+    private static LongSupplier allocationCounter() {
+        try {
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            if (threads instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean hotspot = (com.sun.management.ThreadMXBean) threads;
+                if (hotspot.isThreadAllocatedMemorySupported()) {
+                    hotspot.setThreadAllocatedMemoryEnabled(true);
+                    return () -> hotspot.getThreadAllocatedBytes(Thread.currentThread().getId());
+                }
+            }
+        } catch (LinkageError | UnsupportedOperationException ex) {
+            // no per-thread allocation accounting on this VM
+        }
+
+        return () -> 0;
+    }
+
+    /*
+     * Latencies are kept in buckets whose widths grow with their magnitude, eight buckets per power of two,
+     * so that percentiles are accurate to within an eighth without keeping every sample.
+     */
+    static final class Statistics {
+        private static final int SUB_BUCKET_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+        private final String generatorName;
+        private final long[] buckets = new long[(Long.SIZE - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS];
+        private long calls;
+        private long totalNanos;
+        private long totalBytes;
+        private long totalDraws;
+
+        Statistics(String generatorName) {
+            this.generatorName = generatorName;
+        }
+
+        synchronized void record(long nanos, long bytes, long draws) {
+            ++calls;
+            totalNanos += nanos;
+            totalBytes += bytes;
+            totalDraws += draws;
+            ++buckets[bucketOf(Math.max(0, nanos))];
+        }
+
+        synchronized long calls() {
+            return calls;
+        }
+
+        synchronized long totalNanos() {
+            return totalNanos;
+        }
+
+        synchronized long totalDraws() {
+            return totalDraws;
+        }
+
+        synchronized long percentileNanos(double percentile) {
+            long rank = (long) Math.ceil(percentile * calls);
+            long seen = 0;
+
+            for (int i = 0; i < buckets.length; ++i) {
+                seen += buckets[i];
+                if (seen >= rank && seen > 0)
+                    return upperBoundOf(i);
+            }
+
+            return 0;
+        }
+
+        static int bucketOf(long nanos) {
+            if (nanos < SUB_BUCKETS)
+                return (int) nanos;
+
+            int exponent = Long.SIZE - 1 - numberOfLeadingZeros(nanos);
+            int sub = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+            return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + sub;
+        }
+
+        static long upperBoundOf(int bucket) {
+            if (bucket < SUB_BUCKETS)
+                return bucket;
+
+            int exponent = (bucket >>> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+            long width = 1L << (exponent - SUB_BUCKET_BITS);
+            return ((SUB_BUCKETS + (bucket & (SUB_BUCKETS - 1))) * width) + width - 1;
+        }
+
+        @Override public synchronized String toString() {
+            return String.format("%-60s %10d %12.3f %10.3f %10.3f %10.3f %12d %10.2f",
+                generatorName,
+                calls,
+                totalNanos / 1e6,
+                percentileNanos(0.5) / 1e3,
+                percentileNanos(0.9) / 1e3,
+                percentileNanos(0.99) / 1e3,
+                calls == 0 ? 0 : totalBytes / calls,
+                calls == 0 ? 0 : (double) totalDraws / calls);
+        }
+    }
+
+    /*
+     * Counts, per thread, the draws made from a source of randomness, so that each instrumented generator can
+     * tell how many draws it caused.
+     */
+    private static final class CountingRandom extends Random {
+        private static final long serialVersionUID = Long.MIN_VALUE;
+
+        private final Random delegate;
+
+        CountingRandom(Random delegate) {
+            this.delegate = delegate;
+        }
+
+        private static void count() {
+            ++DRAWS.get()[0];
+        }
+
+        @Override public synchronized void setSeed(long seed) {
+            // Random's constructor seeds this instance before the delegate is known.
+            if (delegate != null)
+                delegate.setSeed(seed);
+        }
+
+        @Override protected int next(int bits) {
+            count();
+            return delegate.nextInt() >>> (Integer.SIZE - bits);
+        }
+
+        @Override public void nextBytes(byte[] bytes) {
+            count();
+            delegate.nextBytes(bytes);
+        }
+
+        @Override public int nextInt() {
+            count();
+            return delegate.nextInt();
+        }
+
+        @Override public int nextInt(int bound) {
+            count();
+            return delegate.nextInt(bound);
+        }
+
+        @Override public long nextLong() {
+            count();
+            return delegate.nextLong();
+        }
+
+        @Override public boolean nextBoolean() {
+            count();
+            return delegate.nextBoolean();
+        }
+
+        @Override public float nextFloat() {
+            count();
+            return delegate.nextFloat();
+        }
+
+        @Override public double nextDouble() {
+            count();
+            return delegate.nextDouble();
+        }
+
+        @Override public synchronized double nextGaussian() {
+            count();
+            return delegate.nextGaussian();
+        }
+    }
+}
@@ -25,6 +25,7 @@
 
 package com.pholser.junit.quickcheck.internal.generator;
 
+import com.pholser.junit.quickcheck.generator.Generable;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.internal.ParameterContext;
 import com.pholser.junit.quickcheck.internal.Weighted;
@@ -33,30 +34,48 @@ import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import org.javaruntype.type.ExtendsTypeParameter;
 import org.javaruntype.type.StandardTypeParameter;
 import org.javaruntype.type.TypeParameter;
-import org.javaruntype.type.Types;
 import org.javaruntype.type.WildcardTypeParameter;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import static com.pholser.junit.quickcheck.internal.Items.*;
 import static com.pholser.junit.quickcheck.internal.Reflection.*;
+import static com.pholser.junit.quickcheck.internal.TypeTokens.*;
+import static com.pholser.junit.quickcheck.internal.generator.GeneratorConstructors.*;
 import static org.javaruntype.type.Types.*;
 
 public class GeneratorRepository {
     private final SourceOfRandomness random;
     private final Map<Class<?>, Set<Generator<?>>> generators = new HashMap<>();
+    private final Map<org.javaruntype.type.Type<?>, Plan> mixedPlans = new HashMap<>();
+    private final Map<org.javaruntype.type.Type<?>, Plan> singlePlans = new HashMap<>();
+    private final ServiceLoadedGenerators serviceLoaded;
+    private GeneratorInstrumentation instrumentation;
 
     public GeneratorRepository(SourceOfRandomness random) {
+        this(random, null);
+    }
+
+    private GeneratorRepository(SourceOfRandomness random, ServiceLoadedGenerators serviceLoaded) {
         this.random = random;
+        this.serviceLoaded = serviceLoaded;
+    }
+
+    /*
+     * Gives a repository of the generators listed for ServiceLoader. Those generators are registered once per
+     * thread context class loader, in a registry that every such repository made under that loader reads; indexed
+     * generators are loaded only when a type they can generate is first looked up. Generators registered with a
+     * repository are kept apart from the shared registry, so they never leak into other repositories.
+     */
+    public static GeneratorRepository withServiceLoadedGenerators(SourceOfRandomness random) {
+        return new GeneratorRepository(random, ServiceLoadedGenerators.shared());
     }
 
     public GeneratorRepository register(Generator<?> source) {
@@ -71,21 +90,42 @@ public class GeneratorRepository {
         return this;
     }
 
+    public GeneratorRepository instrument(GeneratorInstrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+        return this;
+    }
+
     private void registerTypes(Generator<?> generator) {
-        for (Class<?> each : generator.types())
-            registerHierarchy(each, generator);
+        mixedPlans.clear();
+        singlePlans.clear();
+
+        for (Class<?> each : generator.types()) {
+            for (Class<?> supertype : hierarchyOf(each))
+                maybeRegisterGeneratorForType(supertype, generator);
+        }
+    }
+
+    /*
+     * The types a generator for the given type is registered for: the type, its superclasses and interfaces,
+     * and Object for an interface.
+     */
+    static Set<Class<?>> hierarchyOf(Class<?> type) {
+        Set<Class<?>> hierarchy = new LinkedHashSet<>();
+        addHierarchy(type, hierarchy);
+        return hierarchy;
     }
 
-    private void registerHierarchy(Class<?> type, Generator<?> generator) {
-        maybeRegisterGeneratorForType(type, generator);
+    private static void addHierarchy(Class<?> type, Set<Class<?>> hierarchy) {
+        if (!hierarchy.add(type))
+            return;
 
         if (type.getSuperclass() != null)
-            registerHierarchy(type.getSuperclass(), generator);
+            addHierarchy(type.getSuperclass(), hierarchy);
         else if (type.isInterface())
-            registerHierarchy(Object.class, generator);
+            addHierarchy(Object.class, hierarchy);
 
         for (Class<?> each : type.getInterfaces())
-            registerHierarchy(each, generator);
+            addHierarchy(each, hierarchy);
     }
 
     private void maybeRegisterGeneratorForType(Class<?> type, Generator<?> generator) {
@@ -107,43 +147,61 @@ public class GeneratorRepository {
         Generator<?> generator = generatorFor(parameter);
         generator.provideRepository(this);
         generator.configure(parameter.annotatedType());
-        return generator;
+        return instrumentation == null ? generator : instrumentation.instrument(generator);
     }
 
     public Generator<?> generatorFor(Type type) {
-        return generatorFor(token(type), true);
+        return planFor(token(type), true).stamp();
     }
 
     private Generator<?> generatorFor(ParameterContext parameter) {
         if (!parameter.explicitGenerators().isEmpty())
-            return composeWeighted(token(parameter.type()), parameter.explicitGenerators());
+            return composeWeighted(componentPlans(token(parameter.type())), parameter.explicitGenerators());
+
+        return planFor(token(parameter.type()), true).stamp();
+    }
+
+    private Plan planFor(org.javaruntype.type.Type<?> token, boolean allowMixedTypes) {
+        Map<org.javaruntype.type.Type<?>, Plan> cache = allowMixedTypes ? mixedPlans : singlePlans;
+
+        Plan plan = cache.get(token);
+        if (plan == null) {
+            plan = resolve(token, allowMixedTypes);
+            cache.put(token, plan);
+        }
 
-        return generatorFor(token(parameter.type()), true);
+        return plan;
     }
 
-    private Generator<?> generatorFor(org.javaruntype.type.Type<?> token, boolean allowMixedTypes) {
+    private Plan resolve(org.javaruntype.type.Type<?> token, boolean allowMixedTypes) {
         if (token.isArray())
-            return generatorForArrayType(token);
-        if (token.getRawClass().isEnum())
-            return new EnumGenerator(token.getRawClass());
+            return planForArrayType(token);
+        if (token.getRawClass().isEnum()) {
+            Class<?> enumType = token.getRawClass();
+            return () -> new EnumGenerator(enumType);
+        }
 
-        return compose(token, matchingGenerators(token, allowMixedTypes));
+        return compose(componentPlans(token), matchingPlans(token, allowMixedTypes));
     }
 
-    private Generator<?> generatorForArrayType(org.javaruntype.type.Type<?> token) {
+    private Plan planForArrayType(org.javaruntype.type.Type<?> token) {
         @SuppressWarnings("unchecked")
         org.javaruntype.type.Type<?> component = arrayComponentOf((org.javaruntype.type.Type<Object[]>) token);
 
-        return new ArrayGenerator(component.getRawClass(), generatorFor(component, true));
+        Class<?> componentType = component.getRawClass();
+        Plan forComponent = planFor(component, true);
+        return () -> new ArrayGenerator(componentType, forComponent.stamp());
     }
 
-    private List<Generator<?>> matchingGenerators(org.javaruntype.type.Type<?> token, boolean allowMixedTypes) {
-        List<Generator<?>> matches = new ArrayList<>();
+    private List<Plan> matchingPlans(org.javaruntype.type.Type<?> token, boolean allowMixedTypes) {
+        List<Plan> matches = new ArrayList<>();
 
-        if (!hasGeneratorsForRawClass(token.getRawClass()))
-            maybeAddLambdaGenerator(token, matches);
+        if (hasGeneratorsForRawClass(token.getRawClass()))
+            maybeAddPlansForRawClass(token, allowMixedTypes, matches);
+        else if (token.getRawClass().isAnnotationPresent(Generable.class))
+            addDerivedPlan(token.getRawClass(), matches);
         else
-            maybeAddGeneratorsForRawClass(token, allowMixedTypes, matches);
+            maybeAddLambdaPlan(token, matches);
 
         if (matches.isEmpty())
             throw new IllegalArgumentException("Cannot find generator for " + token.getRawClass());
@@ -151,54 +209,90 @@ public class GeneratorRepository {
         return matches;
     }
 
-    private void maybeAddLambdaGenerator(org.javaruntype.type.Type<?> token, List<Generator<?>> matches) {
+    private void addDerivedPlan(Class<?> generable, List<Plan> matches) {
+        String derivedName = derivedGeneratorNameOf(generable);
+
+        Class<?> derived;
+        try {
+            derived = Class.forName(derivedName, true, generable.getClassLoader());
+        } catch (ClassNotFoundException ex) {
+            throw new IllegalArgumentException(
+                "Cannot find generator " + derivedName + " for " + generable
+                    + "; was it compiled with junit-quickcheck-processor?",
+                ex);
+        }
+
+        matches.add(() -> newGenerator(derived));
+    }
+
+    private static String derivedGeneratorNameOf(Class<?> generable) {
+        String packagePrefix = generable.getPackage() == null ? "" : generable.getPackage().getName() + '.';
+        return packagePrefix
+            + generable.getName().substring(packagePrefix.length()).replace('$', '_')
+            + "_Generator";
+    }
+
+    private void maybeAddLambdaPlan(org.javaruntype.type.Type<?> token, List<Plan> matches) {
         Method method = singleAbstractMethodOf(token.getRawClass());
         if (method != null) {
+            Class<?> lambdaType = token.getRawClass();
+            Plan forReturnValue = planFor(token(method.getGenericReturnType()), true);
+
             @SuppressWarnings("unchecked")
-            Generator<?> lambda =
-                new LambdaGenerator(
-                        token.getRawClass(),
-                        generatorFor(token(method.getGenericReturnType()), true));
+            Plan lambda = () -> new LambdaGenerator(lambdaType, forReturnValue.stamp());
             matches.add(lambda);
         }
     }
 
-    private void maybeAddGeneratorsForRawClass(
+    private void maybeAddPlansForRawClass(
         org.javaruntype.type.Type<?> token,
         boolean allowMixedTypes,
-        List<Generator<?>> matches) {
+        List<Plan> matches) {
 
-        List<Generator<?>> candidates = generatorsForRawClass(token.getRawClass(), allowMixedTypes);
+        Set<Generator<?>> candidates = generatorsFor(token.getRawClass());
         List<TypeParameter<?>> typeParameters = token.getTypeParameters();
 
-        if (typeParameters.isEmpty())
-            matches.addAll(candidates);
-        else {
-            for (Generator<?> each : candidates) {
-                if (each.canGenerateForParametersOfTypes(typeParameters))
-                    matches.add(each);
-            }
+        if (!allowMixedTypes) {
+            matches.add(() -> {
+                Generator<?> choice = choose(candidates, random);
+                if (!typeParameters.isEmpty() && !choice.canGenerateForParametersOfTypes(typeParameters))
+                    throw new IllegalArgumentException("Cannot find generator for " + token.getRawClass());
+
+                return copyOf(choice);
+            });
+            return;
+        }
+
+        for (Generator<?> each : candidates) {
+            if (typeParameters.isEmpty() || each.canGenerateForParametersOfTypes(typeParameters))
+                matches.add(() -> copyOf(each));
         }
     }
 
-    private Generator<?> compose(org.javaruntype.type.Type<?> token, List<Generator<?>> matches) {
-        List<Weighted<Generator<?>>> weightings = matches.stream()
-                .map(g -> new Weighted<Generator<?>>(g, 1))
-                .collect(Collectors.toList());
-
-        return composeWeighted(token, weightings);
+    private List<Plan> componentPlans(org.javaruntype.type.Type<?> token) {
+        List<Plan> forComponents = new ArrayList<>();
+        for (TypeParameter<?> each : token.getTypeParameters())
+            forComponents.add(planForTypeParameter(each));
+        return forComponents;
     }
 
-    private Generator<?> composeWeighted(
-            org.javaruntype.type.Type<?> token,
-            List<Weighted<Generator<?>>> matches) {
+    private Plan compose(List<Plan> forComponents, List<Plan> matches) {
+        return () -> {
+            List<Weighted<Generator<?>>> weightings = new ArrayList<>();
+            for (Plan each : matches)
+                weightings.add(new Weighted<>(each.stamp(), 1));
 
-        List<Generator<?>> forComponents = new ArrayList<>();
-        for (TypeParameter<?> each : token.getTypeParameters())
-            forComponents.add(generatorForTypeParameter(each));
+            return composeWeighted(forComponents, weightings);
+        };
+    }
+
+    private Generator<?> composeWeighted(List<Plan> forComponents, List<Weighted<Generator<?>>> matches) {
+        List<Generator<?>> componentGenerators = new ArrayList<>();
+        for (Plan each : forComponents)
+            componentGenerators.add(each.stamp());
 
         for (Weighted<Generator<?>> each : matches)
-            applyComponentGenerators(each.item, forComponents);
+            applyComponentGenerators(each.item, componentGenerators);
 
         return new CompositeGenerator(matches);
     }
@@ -207,7 +301,7 @@ public class GeneratorRepository {
         if (generator.hasComponents()) {
             if (componentGenerators.isEmpty()) {
                 List<Generator<?>> substitutes = new ArrayList<>();
-                Generator<?> zilch = generatorFor(token(Zilch.class), true);
+                Generator<?> zilch = planFor(token(Zilch.class), true).stamp();
                 for (int i = 0; i < generator.numberOfNeededComponents(); ++i)
                     substitutes.add(zilch);
 
@@ -217,42 +311,56 @@ public class GeneratorRepository {
         }
     }
 
-    private Generator<?> generatorForTypeParameter(TypeParameter<?> parameter) {
+    private Plan planForTypeParameter(TypeParameter<?> parameter) {
         if (parameter instanceof StandardTypeParameter<?>)
-            return generatorFor(parameter.getType(), true);
+            return planFor(parameter.getType(), true);
         if (parameter instanceof WildcardTypeParameter)
-            return generatorFor(token(Zilch.class), true);
+            return planFor(token(Zilch.class), true);
         if (parameter instanceof ExtendsTypeParameter<?>)
-            return generatorFor(parameter.getType(), false);
+            return planFor(parameter.getType(), false);
 
         // must be "? super X"
-        return generatorFor(choose(supertypes(parameter.getType()), random), false);
+        Set<org.javaruntype.type.Type<?>> supertypes = supertypes(parameter.getType());
+        return () -> planFor(choose(supertypes, random), false).stamp();
     }
 
-    private List<Generator<?>> generatorsForRawClass(Class<?> clazz, boolean allowMixedTypes) {
-        Set<Generator<?>> matches = generators.get(clazz);
+    private boolean hasGeneratorsForRawClass(Class<?> clazz) {
+        return generatorsFor(clazz) != null;
+    }
 
-        if (!allowMixedTypes) {
-            Generator<?> match = choose(matches, random);
-            matches = new HashSet<>();
-            matches.add(match);
-        }
+    Set<Generator<?>> generatorsFor(Class<?> type) {
+        Set<Generator<?>> local = generators.get(type);
+        if (serviceLoaded == null)
+            return local;
 
-        List<Generator<?>> copies = new ArrayList<>();
-        for (Generator<?> each : matches)
-            copies.add(copyOf(each));
-        return copies;
-    }
+        Set<Generator<?>> shared = serviceLoaded.generatorsFor(type);
+        if (local == null)
+            return shared.isEmpty() ? null : shared;
 
-    private boolean hasGeneratorsForRawClass(Class<?> clazz) {
-        return generators.get(clazz) != null;
+        Set<Generator<?>> all = new LinkedHashSet<>(shared);
+        all.addAll(local);
+        return all;
     }
 
     private static Generator<?> copyOf(Generator<?> generator) {
-        return instantiate(generator.getClass());
+        return newGenerator(generator.getClass());
+    }
+
+    /*
+     * How to make a fresh, unconfigured generator for a type. Resolving the type against the registered
+     * generators happens once per plan; random choices among candidates are deferred to stamp(), and generators
+     * are made through constructor handles looked up once per generator class.
+     *
+     * Plans stop short of configuration. Configured generators carry state that no generator can copy, and an
+     * AnnotatedType has no value equality to key a cache of them on; so produceGenerator() still configures
+     * each stamped tree, through configure() lookups that Generator caches per class.
+     */
+    @FunctionalInterface
+    private interface Plan {
+        Generator<?> stamp();
     }
 
     public static org.javaruntype.type.Type<?> token(Type type) {
-        return Types.forJavaLangReflectType(type);
+        return tokenOf(type);
     }
 }
@@ -0,0 +1,101 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.generator;
+
+import java.lang.reflect.AnnotatedType;
+import java.util.List;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import org.javaruntype.type.TypeParameter;
+
+import static java.lang.System.*;
+
+class InstrumentedGenerator<T> extends Generator<T> {
+    private final Generator<T> delegate;
+    private final GeneratorInstrumentation instrumentation;
+    private final GeneratorInstrumentation.Statistics statistics;
+
+    InstrumentedGenerator(
+        Generator<T> delegate,
+        GeneratorInstrumentation instrumentation,
+        GeneratorInstrumentation.Statistics statistics) {
+
+        super(delegate.types());
+
+        this.delegate = delegate;
+        this.instrumentation = instrumentation;
+        this.statistics = statistics;
+    }
+
+    static Generator<?> uninstrumented(Generator<?> generator) {
+        return generator instanceof InstrumentedGenerator<?>
+            ? ((InstrumentedGenerator<?>) generator).delegate
+            : generator;
+    }
+
+    // The batched generate is deliberately inherited, so that each value is measured on its own.
+    @Override public T generate(SourceOfRandomness random, GenerationStatus status) {
+        long draws = instrumentation.draws();
+        long bytes = instrumentation.allocatedBytes();
+        long start = nanoTime();
+
+        T value = delegate.generate(random, status);
+
+        long elapsed = nanoTime() - start;
+        statistics.record(elapsed, instrumentation.allocatedBytes() - bytes, instrumentation.draws() - draws);
+        return value;
+    }
+
+    @Override public boolean canRegisterAsType(Class<?> type) {
+        return delegate.canRegisterAsType(type);
+    }
+
+    @Override public boolean hasComponents() {
+        return delegate.hasComponents();
+    }
+
+    @Override public int numberOfNeededComponents() {
+        return delegate.numberOfNeededComponents();
+    }
+
+    @Override public void addComponentGenerators(List<Generator<?>> newComponents) {
+        delegate.addComponentGenerators(newComponents);
+    }
+
+    @Override public boolean canGenerateForParametersOfTypes(List<TypeParameter<?>> typeParameters) {
+        return delegate.canGenerateForParametersOfTypes(typeParameters);
+    }
+
+    @Override public void configure(AnnotatedType annotatedType) {
+        delegate.configure(annotatedType);
+    }
+
+    @Override public void provideRepository(GeneratorRepository provided) {
+        delegate.provideRepository(provided);
+    }
+}
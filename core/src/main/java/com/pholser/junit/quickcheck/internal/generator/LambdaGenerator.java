@@ -43,6 +43,6 @@ public class LambdaGenerator<T, U> extends Generator<T> {
     }
 
     @Override public T generate(SourceOfRandomness random, GenerationStatus status) {
-        return makeLambda(lambdaType, returnValueGenerator, status);
+        return makeLambda(lambdaType, returnValueGenerator, random, status);
     }
 }
@@ -30,6 +30,8 @@ import java.util.List;
 
 import com.pholser.junit.quickcheck.internal.GeometricDistribution;
 import com.pholser.junit.quickcheck.internal.ParameterContext;
+import com.pholser.junit.quickcheck.internal.Seeds;
+import com.pholser.junit.quickcheck.metrics.GenerationListener;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import org.junit.contrib.theories.PotentialAssignment;
 import org.slf4j.Logger;
@@ -39,34 +41,49 @@ public class RandomTheoryParameterGenerator {
     private final GeneratorRepository repository;
     private final GeometricDistribution distro;
     private final Logger log;
+    private final GenerationListener listener;
 
     public RandomTheoryParameterGenerator(
         SourceOfRandomness random,
         GeneratorRepository repository,
         GeometricDistribution distro,
-        Logger log) {
+        Logger log,
+        GenerationListener listener) {
 
         this.random = random;
         this.repository = repository;
         this.distro = distro;
         this.log = log;
+        this.listener = listener;
     }
 
     public List<PotentialAssignment> generate(ParameterContext parameter) {
-        if (parameter.fixedSeed()) {
-            random.setSeed(parameter.seed());
-        }
-        log.debug("Seed for parameter {} is {}", parameter.name(), random.seed());
+        seed(parameter);
 
         List<PotentialAssignment> assignments = new ArrayList<>();
+        contextFor(parameter).generateSample(
+            random,
+            value -> assignments.add(PotentialAssignment.forValue(String.valueOf(value), value)));
+
+        return assignments;
+    }
 
-        for (GenerationContext gen = new GenerationContext(parameter, repository, distro, random);
-            gen.shouldContinue();) {
+    public List<PotentialAssignment> stream(ParameterContext parameter) {
+        seed(parameter);
 
-            Object nextValue = gen.generate(random);
-            assignments.add(PotentialAssignment.forValue(String.valueOf(nextValue), nextValue));
-        }
+        return new StreamedAssignments(parameter, this);
+    }
 
-        return assignments;
+    GenerationContext contextFor(ParameterContext parameter) {
+        return new GenerationContext(parameter, repository, distro, random, listener);
+    }
+
+    SourceOfRandomness random() {
+        return random;
+    }
+
+    void seed(ParameterContext parameter) {
+        random.setSeed(parameter.fixedSeed() ? parameter.seed() : Seeds.forParameter(parameter.name(), parameter.trial()));
+        log.debug("Seed for parameter {} is {}", parameter.name(), random.seed());
     }
 }
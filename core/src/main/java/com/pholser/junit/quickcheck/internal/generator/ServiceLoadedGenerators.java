@@ -0,0 +1,245 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.generator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.ref.SoftReference;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+import com.pholser.junit.quickcheck.generator.Generator;
+
+import static com.pholser.junit.quickcheck.internal.Reflection.*;
+import static java.nio.charset.StandardCharsets.*;
+import static java.util.Arrays.*;
+import static java.util.Collections.*;
+import static java.util.Comparator.*;
+
+/*
+ * The generators listed in META-INF/services/com.pholser.junit.quickcheck.generator.Generator resources, loaded
+ * and registered on demand. A module built with junit-quickcheck-processor also carries a generator index naming,
+ * for each of its generators, the types the generator registers for; such a generator is loaded and instantiated
+ * only when one of those types is first looked up. Listed generators missing from every index are loaded
+ * up front, as ServiceLoader would.
+ *
+ * Lookups read immutable per-type lists without locking. Only loading a generator takes this registry's lock,
+ * and a type stays pending until its generators are registered, so a lookup never sees a half-loaded type.
+ */
+final class ServiceLoadedGenerators {
+    static final String SERVICES = "META-INF/services/" + Generator.class.getName();
+    static final String INDEX = "META-INF/junit-quickcheck/generators.index";
+
+    /*
+     * One registry per class loader. The registry refers to its loader, through the loader field and the
+     * generators it loads, so it is held softly: otherwise the weak key could never be cleared.
+     */
+    private static final Map<ClassLoader, SoftReference<ServiceLoadedGenerators>> SHARED = new WeakHashMap<>();
+
+    private final ClassLoader loader;
+    private final Map<String, Integer> positions = new HashMap<>();
+    private final ConcurrentMap<String, List<String>> pendingByType = new ConcurrentHashMap<>();
+    private final Set<String> loaded = new CopyOnWriteArraySet<>();
+    private final ConcurrentMap<Class<?>, List<Generator<?>>> registrations = new ConcurrentHashMap<>();
+
+    ServiceLoadedGenerators(ClassLoader loader) {
+        this.loader = loader;
+
+        Map<String, List<String>> index = readIndex();
+        for (String each : readServices()) {
+            positions.put(each, positions.size());
+
+            List<String> types = index.get(each);
+            if (types == null || types.isEmpty())
+                load(each);
+            else {
+                for (String type : typesAtRuntime(types, loader))
+                    pendingByType.computeIfAbsent(type, k -> new ArrayList<>()).add(each);
+            }
+        }
+    }
+
+    static ServiceLoadedGenerators shared() {
+        return sharedBy(defaultLoader());
+    }
+
+    static ServiceLoadedGenerators sharedBy(ClassLoader loader) {
+        synchronized (SHARED) {
+            SoftReference<ServiceLoadedGenerators> held = SHARED.get(loader);
+            ServiceLoadedGenerators generators = held == null ? null : held.get();
+            if (generators == null) {
+                generators = new ServiceLoadedGenerators(loader);
+                SHARED.put(loader, new SoftReference<>(generators));
+            }
+
+            return generators;
+        }
+    }
+
+    /*
+     * The prototypes registered for the given type, in the order their generators are listed. Callers must not
+     * hand out these instances; they are shared by every thread.
+     */
+    Set<Generator<?>> generatorsFor(Class<?> type) {
+        if (pendingByType.containsKey(type.getName()))
+            loadPending(type.getName());
+
+        List<Generator<?>> registered = registrations.get(type);
+        return registered == null ? emptySet() : new LinkedHashSet<>(registered);
+    }
+
+    Set<String> loaded() {
+        return new LinkedHashSet<>(loaded);
+    }
+
+    /*
+     * The index records the hierarchy of a generator's type as it stood against the JDK the generator was compiled
+     * with. The JDK running the tests may give the type more supertypes -- String implements Constable from JDK 12
+     * on, for instance -- and once loaded, the generator is registered for those too. So the hierarchy of the
+     * indexed type, listed first, is taken again here, loading but not initializing that type.
+     */
+    static Set<String> typesAtRuntime(List<String> indexed, ClassLoader loader) {
+        Set<String> types = new LinkedHashSet<>(indexed);
+
+        // A generator whose type is missing will fail on its own terms if it is ever loaded.
+        Class<?> indexedType;
+        try {
+            indexedType = Class.forName(indexed.get(0), false, loader);
+        } catch (ClassNotFoundException | LinkageError ex) {
+            return types;
+        }
+
+        for (Class<?> each : GeneratorRepository.hierarchyOf(indexedType))
+            types.add(each.getName());
+        return types;
+    }
+
+    private synchronized void loadPending(String typeName) {
+        List<String> pending = pendingByType.get(typeName);
+        if (pending == null)
+            return;
+
+        for (String each : pending) {
+            if (!loaded.contains(each))
+                load(each);
+        }
+        pendingByType.remove(typeName);
+    }
+
+    private void load(String generatorName) {
+        Class<?> generatorType;
+        try {
+            generatorType = Class.forName(generatorName, true, loader);
+        } catch (ClassNotFoundException ex) {
+            throw new ServiceConfigurationError("Generator " + generatorName + " not found", ex);
+        }
+        if (!Generator.class.isAssignableFrom(generatorType))
+            throw new ServiceConfigurationError(generatorName + " is not a " + Generator.class.getName());
+
+        register((Generator<?>) instantiate(generatorType));
+        loaded.add(generatorName);
+    }
+
+    private void register(Generator<?> generator) {
+        Set<Class<?>> types = new LinkedHashSet<>();
+        for (Class<?> each : generator.types())
+            types.addAll(GeneratorRepository.hierarchyOf(each));
+
+        for (Class<?> each : types) {
+            if (generator.canRegisterAsType(each))
+                registrations.merge(each, singletonList(generator), this::inListedOrder);
+        }
+    }
+
+    private List<Generator<?>> inListedOrder(List<Generator<?>> registered, List<Generator<?>> added) {
+        List<Generator<?>> ordered = new ArrayList<>(registered);
+        ordered.addAll(added);
+        ordered.sort(comparing(g -> positions.get(g.getClass().getName())));
+        return unmodifiableList(ordered);
+    }
+
+    private Set<String> readServices() {
+        Set<String> names = new LinkedHashSet<>();
+        for (String each : linesOf(SERVICES)) {
+            int comment = each.indexOf('#');
+            String name = (comment < 0 ? each : each.substring(0, comment)).trim();
+            if (!name.isEmpty())
+                names.add(name);
+        }
+        return names;
+    }
+
+    private Map<String, List<String>> readIndex() {
+        Map<String, List<String>> index = new LinkedHashMap<>();
+        for (String each : linesOf(INDEX)) {
+            int separator = each.indexOf('=');
+            if (separator < 0)
+                continue;
+
+            String types = each.substring(separator + 1).trim();
+            index.put(
+                each.substring(0, separator).trim(),
+                types.isEmpty() ? emptyList() : asList(types.split(",")));
+        }
+        return index;
+    }
+
+    private List<String> linesOf(String resourceName) {
+        List<String> lines = new ArrayList<>();
+        try {
+            Enumeration<URL> resources = loader.getResources(resourceName);
+            while (resources.hasMoreElements()) {
+                try (BufferedReader in = new BufferedReader(
+                    new InputStreamReader(resources.nextElement().openStream(), UTF_8))) {
+
+                    for (String line = in.readLine(); line != null; line = in.readLine())
+                        lines.add(line);
+                }
+            }
+        } catch (IOException ex) {
+            throw new ServiceConfigurationError("Could not read " + resourceName, ex);
+        }
+        return lines;
+    }
+
+    private static ClassLoader defaultLoader() {
+        ClassLoader context = Thread.currentThread().getContextClassLoader();
+        return context == null ? Generator.class.getClassLoader() : context;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.generator;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.pholser.junit.quickcheck.internal.ParameterContext;
+import org.junit.contrib.theories.PotentialAssignment;
+
+import static java.lang.Math.*;
+
+/*
+ * The values for a theory parameter, generated as they are iterated over and not kept, so that only the chunk of
+ * values in flight is held. Each iteration starts the parameter's source of randomness over from the same seed, and so
+ * gives the same values. Lookups by index, which the theories runner does not make, generate the whole sample once
+ * and keep it. Generation either gives a full sample or fails with a DiscardRatioExceededException, so the list's
+ * size is known before any value is generated.
+ */
+class StreamedAssignments extends AbstractList<PotentialAssignment> {
+    private final ParameterContext parameter;
+    private final RandomTheoryParameterGenerator generator;
+    private final long seed;
+    private List<PotentialAssignment> materialized;
+
+    StreamedAssignments(ParameterContext parameter, RandomTheoryParameterGenerator generator) {
+        this.parameter = parameter;
+        this.generator = generator;
+        this.seed = generator.random().seed();
+    }
+
+    @Override public Iterator<PotentialAssignment> iterator() {
+        return new Traversal();
+    }
+
+    @Override public PotentialAssignment get(int index) {
+        if (index < 0 || index >= size())
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+
+        if (materialized == null) {
+            List<PotentialAssignment> sample = new ArrayList<>(size());
+            for (PotentialAssignment each : this)
+                sample.add(each);
+            materialized = sample;
+        }
+
+        return materialized.get(index);
+    }
+
+    @Override public int size() {
+        return parameter.discardRatio() < 0 ? 0 : max(0, parameter.sampleSize());
+    }
+
+    private class Traversal implements Iterator<PotentialAssignment> {
+        private ChunkedDraws draws;
+        private int produced;
+
+        @Override public boolean hasNext() {
+            return produced < size();
+        }
+
+        @Override public PotentialAssignment next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+
+            if (draws == null) {
+                generator.random().setSeed(seed);
+                draws = new ChunkedDraws(generator.contextFor(parameter), generator.random());
+            }
+
+            Object nextValue = draws.next();
+            if (++produced == size())
+                draws.finish();
+
+            return PotentialAssignment.forValue(String.valueOf(nextValue), nextValue);
+        }
+    }
+}
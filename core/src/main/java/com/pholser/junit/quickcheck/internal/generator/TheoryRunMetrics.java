@@ -0,0 +1,95 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.generator;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.pholser.junit.quickcheck.metrics.GenerationListener;
+import com.pholser.junit.quickcheck.metrics.GenerationMetrics;
+
+/*
+ * Gathers the generation metrics of one theory run, on the thread that runs it. The theories runner asks for a
+ * parameter's values afresh for every combination of values before it, and stops asking partway through when a
+ * trial fails. So rather than each pass over a parameter's values reporting on its own, whether or not it got to
+ * the end, every pass is summed into one report per parameter when the run ends.
+ */
+public final class TheoryRunMetrics {
+    private static final ThreadLocal<TheoryRunMetrics> CURRENT = new ThreadLocal<>();
+
+    private final TheoryRunMetrics enclosing;
+    private final List<GenerationContext> contexts = new ArrayList<>();
+
+    private TheoryRunMetrics(TheoryRunMetrics enclosing) {
+        this.enclosing = enclosing;
+    }
+
+    public static TheoryRunMetrics begin() {
+        TheoryRunMetrics run = new TheoryRunMetrics(CURRENT.get());
+        CURRENT.set(run);
+        return run;
+    }
+
+    static boolean gather(GenerationContext context) {
+        TheoryRunMetrics run = CURRENT.get();
+        if (run == null)
+            return false;
+
+        run.contexts.add(context);
+        return true;
+    }
+
+    public void end() {
+        if (enclosing == null)
+            CURRENT.remove();
+        else
+            CURRENT.set(enclosing);
+
+        Map<String, GenerationMetrics> totals = new LinkedHashMap<>();
+        Map<String, GenerationListener> listeners = new HashMap<>();
+        for (GenerationContext each : contexts) {
+            GenerationMetrics metrics = each.metrics();
+            totals.merge(metrics.parameterName(), metrics, TheoryRunMetrics::sum);
+            listeners.putIfAbsent(metrics.parameterName(), each.listener());
+        }
+
+        for (GenerationMetrics each : totals.values())
+            listeners.get(each.parameterName()).generated(each);
+    }
+
+    private static GenerationMetrics sum(GenerationMetrics first, GenerationMetrics second) {
+        return new GenerationMetrics(
+            first.parameterName(),
+            first.sampleSize() + second.sampleSize(),
+            first.accepted() + second.accepted(),
+            first.discarded() + second.discarded(),
+            first.generationNanos() + second.generationNanos(),
+            first.evaluationNanos() + second.evaluationNanos());
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.generator;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import com.pholser.junit.quickcheck.internal.ParameterContext;
+import org.junit.contrib.theories.PotentialAssignment;
+
+import static java.lang.Math.*;
+
+public class ZippedAssignments implements Iterable<List<PotentialAssignment>> {
+    private final List<ParameterContext> parameters;
+    private final List<RandomTheoryParameterGenerator> generators;
+
+    public ZippedAssignments(List<ParameterContext> parameters, List<RandomTheoryParameterGenerator> generators) {
+        if (parameters.size() != generators.size()) {
+            throw new IllegalArgumentException(
+                String.format("%d parameters, but %d generators", parameters.size(), generators.size()));
+        }
+
+        this.parameters = new ArrayList<>(parameters);
+        this.generators = new ArrayList<>(generators);
+    }
+
+    @Override public Iterator<List<PotentialAssignment>> iterator() {
+        List<Column> columns = new ArrayList<>();
+        for (int i = 0; i < parameters.size(); ++i)
+            columns.add(new Column(parameters.get(i), generators.get(i)));
+
+        int tuples = numberOfTuples();
+
+        return new Iterator<List<PotentialAssignment>>() {
+            private int produced;
+
+            @Override public boolean hasNext() {
+                if (produced < tuples)
+                    return true;
+
+                for (Column each : columns)
+                    each.finish();
+                return false;
+            }
+
+            @Override public List<PotentialAssignment> next() {
+                if (!hasNext())
+                    throw new NoSuchElementException();
+
+                List<PotentialAssignment> tuple = new ArrayList<>(columns.size());
+                for (Column each : columns)
+                    tuple.add(each.next());
+
+                ++produced;
+                return tuple;
+            }
+        };
+    }
+
+    private int numberOfTuples() {
+        int tuples = 0;
+
+        for (ParameterContext each : parameters) {
+            if (each.discardRatio() < 0 || each.sampleSize() <= 0)
+                return 0;
+
+            tuples = max(tuples, each.sampleSize());
+        }
+
+        return tuples;
+    }
+
+    private static class Column {
+        private final ParameterContext parameter;
+        private final RandomTheoryParameterGenerator generator;
+        private ChunkedDraws draws;
+
+        Column(ParameterContext parameter, RandomTheoryParameterGenerator generator) {
+            this.parameter = parameter;
+            this.generator = generator;
+
+            generator.seed(parameter);
+            draws = new ChunkedDraws(generator.contextFor(parameter), generator.random());
+        }
+
+        PotentialAssignment next() {
+            // Parameters with smaller samples than the widest one start over, carrying on with the same randomness.
+            if (!draws.hasNext()) {
+                draws.finish();
+                draws = new ChunkedDraws(generator.contextFor(parameter), generator.random());
+            }
+
+            Object nextValue = draws.next();
+            return PotentialAssignment.forValue(String.valueOf(nextValue), nextValue);
+        }
+
+        void finish() {
+            draws.finish();
+        }
+    }
+}
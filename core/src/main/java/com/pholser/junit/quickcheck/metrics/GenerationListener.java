@@ -0,0 +1,80 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.metrics;
+
+/**
+ * <p>Receives the {@link GenerationMetrics} for each theory parameter once generation of its sample finishes,
+ * either normally or because too many values were discarded.</p>
+ *
+ * <p>By default, metrics go to an {@link Slf4jGenerationListener}. Name a different implementation, which must
+ * have an accessible zero-arg constructor, with the system property {@code junit-quickcheck.metrics.listener}.
+ * Setting the system property {@code junit-quickcheck.metrics.json} to a file path additionally appends the
+ * metrics to that file via a {@link JsonGenerationListener}.</p>
+ *
+ * <p>Under {@link com.pholser.junit.quickcheck.runner.QuickcheckTheories}, each parameter's metrics are reported
+ * once, when the theory finishes, and sum every pass the theories runner made over the parameter's values.</p>
+ *
+ * <p>Listeners may be called from several threads at once.</p>
+ */
+@FunctionalInterface
+public interface GenerationListener {
+    /**
+     * <p>Called when a parameter's sample has been generated.</p>
+     *
+     * @param metrics how much work generating the sample took
+     */
+    void generated(GenerationMetrics metrics);
+
+    /**
+     * <p>Tells whether this listener uses the time spent generating and evaluating values. Timing every value
+     * costs two clock reads apiece, so when no listener wants the times they are not taken, and the metrics
+     * report zero nanoseconds.</p>
+     *
+     * @return whether the metrics this listener receives should include timings; {@code true} by default
+     */
+    default boolean wantsTimings() {
+        return true;
+    }
+
+    /**
+     * @param next listener to notify after this one
+     * @return a listener that notifies this listener, then {@code next}
+     */
+    default GenerationListener andThen(GenerationListener next) {
+        GenerationListener first = this;
+
+        return new GenerationListener() {
+            @Override public void generated(GenerationMetrics metrics) {
+                first.generated(metrics);
+                next.generated(metrics);
+            }
+
+            @Override public boolean wantsTimings() {
+                return first.wantsTimings() || next.wantsTimings();
+            }
+        };
+    }
+}
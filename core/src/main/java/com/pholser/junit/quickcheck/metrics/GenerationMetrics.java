@@ -0,0 +1,131 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.metrics;
+
+/**
+ * <p>How much work went into producing the sample for one theory parameter: how many values were generated,
+ * how many of those satisfied the parameter's constraint, and how long was spent generating values versus
+ * evaluating the constraint against them.</p>
+ */
+public final class GenerationMetrics {
+    private final String parameterName;
+    private final int sampleSize;
+    private final int accepted;
+    private final int discarded;
+    private final long generationNanos;
+    private final long evaluationNanos;
+
+    public GenerationMetrics(
+        String parameterName,
+        int sampleSize,
+        int accepted,
+        int discarded,
+        long generationNanos,
+        long evaluationNanos) {
+
+        this.parameterName = parameterName;
+        this.sampleSize = sampleSize;
+        this.accepted = accepted;
+        this.discarded = discarded;
+        this.generationNanos = generationNanos;
+        this.evaluationNanos = evaluationNanos;
+    }
+
+    /**
+     * @return the name of the parameter, qualified by the name of the method or constructor that declares it
+     */
+    public String parameterName() {
+        return parameterName;
+    }
+
+    /**
+     * @return the number of values the parameter asked for
+     */
+    public int sampleSize() {
+        return sampleSize;
+    }
+
+    /**
+     * @return the number of values generated, whether or not they satisfied the parameter's constraint
+     */
+    public int generated() {
+        return accepted + discarded;
+    }
+
+    /**
+     * @return the number of generated values that satisfied the parameter's constraint
+     */
+    public int accepted() {
+        return accepted;
+    }
+
+    /**
+     * @return the number of generated values that did not satisfy the parameter's constraint
+     */
+    public int discarded() {
+        return discarded;
+    }
+
+    /**
+     * @return nanoseconds spent in generators, not counting constraint evaluation
+     */
+    public long generationNanos() {
+        return generationNanos;
+    }
+
+    /**
+     * @return nanoseconds spent evaluating the parameter's constraint against generated values
+     */
+    public long evaluationNanos() {
+        return evaluationNanos;
+    }
+
+    /**
+     * <p>Gives the number of discarded values per accepted value, the quantity that
+     * {@link com.pholser.junit.quickcheck.ForAll#discardRatio()} bounds.</p>
+     *
+     * @return the effective discard ratio; {@link Double#POSITIVE_INFINITY} if values were discarded but none
+     * accepted
+     */
+    public double discardRatio() {
+        if (discarded == 0)
+            return 0;
+
+        return accepted == 0 ? Double.POSITIVE_INFINITY : (double) discarded / accepted;
+    }
+
+    @Override public String toString() {
+        return String.format(
+            "%s: generated %d, accepted %d, discarded %d (discard ratio %.2f), %d ns generating, %d ns evaluating",
+            parameterName,
+            generated(),
+            accepted,
+            discarded,
+            discardRatio(),
+            generationNanos,
+            evaluationNanos);
+    }
+}
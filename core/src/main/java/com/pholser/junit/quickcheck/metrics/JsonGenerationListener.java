@@ -0,0 +1,91 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.metrics;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.charset.StandardCharsets.*;
+import static java.nio.file.StandardOpenOption.*;
+
+/**
+ * <p>Appends {@link GenerationMetrics} to a file, one JSON object per line, for aggregation across
+ * a test suite.</p>
+ */
+public class JsonGenerationListener implements GenerationListener {
+    private static final Object LOCK = new Object();
+
+    private final Path file;
+
+    public JsonGenerationListener(Path file) {
+        this.file = file;
+    }
+
+    @Override public void generated(GenerationMetrics metrics) {
+        byte[] line = (toJson(metrics) + System.lineSeparator()).getBytes(UTF_8);
+
+        // Listeners for different parameters may share a file.
+        synchronized (LOCK) {
+            try {
+                Files.write(file, line, CREATE, APPEND);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
+    static String toJson(GenerationMetrics metrics) {
+        double ratio = metrics.discardRatio();
+
+        return "{\"parameter\":" + quoted(metrics.parameterName())
+            + ",\"sampleSize\":" + metrics.sampleSize()
+            + ",\"generated\":" + metrics.generated()
+            + ",\"accepted\":" + metrics.accepted()
+            + ",\"discarded\":" + metrics.discarded()
+            + ",\"discardRatio\":" + (Double.isInfinite(ratio) ? "null" : String.valueOf(ratio))
+            + ",\"generationNanos\":" + metrics.generationNanos()
+            + ",\"evaluationNanos\":" + metrics.evaluationNanos()
+            + '}';
+    }
+
+    private static String quoted(String s) {
+        StringBuilder buffer = new StringBuilder(s.length() + 2).append('"');
+
+        for (int i = 0; i < s.length(); ++i) {
+            char ch = s.charAt(i);
+            if (ch == '"' || ch == '\\')
+                buffer.append('\\').append(ch);
+            else if (ch < 0x20)
+                buffer.append(String.format("\\u%04x", (int) ch));
+            else
+                buffer.append(ch);
+        }
+
+        return buffer.append('"').toString();
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * <p>Logs {@link GenerationMetrics} at debug level to the logger {@code junit-quickcheck.generation-metrics}.
+ * Parameters whose generation discarded more values than their sample size are logged at info level.</p>
+ *
+ * <p>Timings are taken only while the logger is enabled for debug level.</p>
+ */
+public class Slf4jGenerationListener implements GenerationListener {
+    private final Logger log;
+
+    public Slf4jGenerationListener() {
+        this(LoggerFactory.getLogger("junit-quickcheck.generation-metrics"));
+    }
+
+    public Slf4jGenerationListener(Logger log) {
+        this.log = log;
+    }
+
+    @Override public void generated(GenerationMetrics metrics) {
+        if (metrics.discarded() > metrics.sampleSize())
+            log.info("Wasteful generation for {}", metrics);
+        else if (log.isDebugEnabled())
+            log.debug("Generated {}", metrics);
+    }
+
+    @Override public boolean wantsTimings() {
+        return log.isDebugEnabled();
+    }
+}
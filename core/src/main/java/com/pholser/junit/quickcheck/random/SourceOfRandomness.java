@@ -33,8 +33,12 @@ import java.util.Random;
 import static com.pholser.junit.quickcheck.internal.Ranges.*;
 
 /**
- * A source of randomness, fed to {@link com.pholser.junit.quickcheck.generator.Generator}s so they can produce
- * random values for theory parameters.
+ * <p>A source of randomness, fed to {@link com.pholser.junit.quickcheck.generator.Generator}s so they can produce
+ * random values for theory parameters.</p>
+ *
+ * <p>Draws are delegated to a {@link Random}. Any subclass of {@link Random} will do; the
+ * {@link UnsynchronizedRandom} engines avoid the synchronization costs that {@link Random} itself incurs on every
+ * draw.</p>
  */
 public class SourceOfRandomness {
     private final Random delegate;
@@ -43,7 +47,7 @@ public class SourceOfRandomness {
     /**
      * Makes a new source of randomness.
      *
-     * @param delegate a JDK source of randomness, to which the new instance will delegate
+     * @param delegate a JDK source of randomness, or a subclass thereof, to which the new instance will delegate
      */
     public SourceOfRandomness(Random delegate) {
         this.delegate = delegate;
@@ -225,7 +229,7 @@ public class SourceOfRandomness {
         if (comparison == 0)
             return min;
 
-        return choose(this, BigInteger.valueOf(min), BigInteger.valueOf(max)).longValue();
+        return choose(this, min, max);
     }
 
     /**
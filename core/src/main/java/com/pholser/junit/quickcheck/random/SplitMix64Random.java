@@ -0,0 +1,72 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.random;
+
+/**
+ * <p>An {@link UnsynchronizedRandom} using the SplitMix64 algorithm, the engine behind
+ * {@link java.util.SplittableRandom}. Its state is a single {@code long}, so reseeding it is very cheap.</p>
+ */
+public class SplitMix64Random extends UnsynchronizedRandom {
+    private static final long serialVersionUID = Long.MIN_VALUE;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+
+    /**
+     * Seeds the new instance in the usual JDK way.
+     */
+    public SplitMix64Random() {
+        super();
+    }
+
+    /**
+     * @param seed initial seed for the new instance
+     */
+    public SplitMix64Random(long seed) {
+        super(seed);
+    }
+
+    @Override protected void reseed(long seed) {
+        state = seed;
+    }
+
+    @Override public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+
+    /**
+     * <p>Scrambles the bits of a {@code long}; the finalizer SplitMix64 applies to its state to give each value.</p>
+     *
+     * @param z value to scramble
+     * @return the scrambled value
+     */
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
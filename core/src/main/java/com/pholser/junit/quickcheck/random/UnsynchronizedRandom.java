@@ -0,0 +1,121 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.random;
+
+import java.util.Random;
+
+/**
+ * <p>Base class for engines that can stand in for {@link Random} as the delegate of a {@link SourceOfRandomness}.
+ * Subclasses supply 64 random bits at a time via {@link #nextLong()} and derive their state from a seed in
+ * {@link #reseed(long)}; every other draw is computed from {@link #nextLong()}.</p>
+ *
+ * <p>Unlike {@link Random}, instances of this class are not safe for use by multiple threads. In exchange, draws do
+ * not pay for the atomic seed updates and monitors that {@link Random} uses. Each theory parameter gets its own
+ * source of randomness, so junit-quickcheck never shares one between threads.</p>
+ *
+ * <p>Subclasses must have an accessible zero-arg constructor if they are to be named in
+ * {@link com.pholser.junit.quickcheck.ForAll#random()}. They must not rely on field initializers for state that
+ * {@link #reseed(long)} sets up, because {@link Random}'s constructor seeds the instance before those
+ * initializers run.</p>
+ */
+public abstract class UnsynchronizedRandom extends Random {
+    private static final long serialVersionUID = Long.MIN_VALUE;
+
+    private double nextNextGaussian;
+    private boolean haveNextNextGaussian;
+
+    /**
+     * Seeds the new instance in the usual JDK way.
+     */
+    protected UnsynchronizedRandom() {
+        super();
+    }
+
+    /**
+     * @param seed initial seed for the new instance
+     */
+    protected UnsynchronizedRandom(long seed) {
+        super(seed);
+    }
+
+    /**
+     * Resets the state of this engine so that its sequence of values is determined wholly by the given seed.
+     *
+     * @param seed the new seed
+     */
+    protected abstract void reseed(long seed);
+
+    /**
+     * @return the next 64 random bits from this engine
+     */
+    @Override public abstract long nextLong();
+
+    @Override public final void setSeed(long seed) {
+        haveNextNextGaussian = false;
+        reseed(seed);
+    }
+
+    @Override protected int next(int bits) {
+        return (int) (nextLong() >>> (64 - bits));
+    }
+
+    @Override public int nextInt() {
+        return (int) (nextLong() >>> 32);
+    }
+
+    @Override public boolean nextBoolean() {
+        return nextLong() < 0;
+    }
+
+    @Override public float nextFloat() {
+        return (nextLong() >>> 40) * 0x1.0p-24F;
+    }
+
+    @Override public double nextDouble() {
+        return (nextLong() >>> 11) * 0x1.0p-53;
+    }
+
+    @Override public double nextGaussian() {
+        if (haveNextNextGaussian) {
+            haveNextNextGaussian = false;
+            return nextNextGaussian;
+        }
+
+        double v1;
+        double v2;
+        double s;
+        do {
+            v1 = 2 * nextDouble() - 1;
+            v2 = 2 * nextDouble() - 1;
+            s = v1 * v1 + v2 * v2;
+        } while (s >= 1 || s == 0);
+
+        double multiplier = StrictMath.sqrt(-2 * StrictMath.log(s) / s);
+        nextNextGaussian = v2 * multiplier;
+        haveNextNextGaussian = true;
+        return v1 * multiplier;
+    }
+}
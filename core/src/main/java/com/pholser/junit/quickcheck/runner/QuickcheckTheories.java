@@ -0,0 +1,299 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.runner;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+
+import com.pholser.junit.quickcheck.ForAll;
+import com.pholser.junit.quickcheck.Parallel;
+import com.pholser.junit.quickcheck.Zipped;
+import com.pholser.junit.quickcheck.internal.RandomValueSupplier;
+import com.pholser.junit.quickcheck.internal.generator.TheoryRunMetrics;
+import org.junit.AssumptionViolatedException;
+import org.junit.contrib.theories.ParameterSignature;
+import org.junit.contrib.theories.PotentialAssignment;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.contrib.theories.internal.Assignments;
+import org.junit.runners.model.FrameworkMethod;
+import org.junit.runners.model.InitializationError;
+import org.junit.runners.model.Statement;
+import org.junit.runners.model.TestClass;
+
+import static java.lang.String.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * <p>A {@link Theories} runner that also understands junit-quickcheck's annotations for theory classes and
+ * methods, such as {@link Zipped} and {@link Parallel}.</p>
+ *
+ * <p>Theories without such annotations run as they would with {@link Theories}, except that each request for a
+ * parameter's values is seeded by the trial those values begin at. So a rerun with the same suite seed draws the
+ * same values for every combination of parameters, and a parameter that comes after others still gets fresh values
+ * for each combination of those before it.</p>
+ */
+public class QuickcheckTheories extends Theories {
+    public QuickcheckTheories(Class<?> klass) throws InitializationError {
+        super(klass);
+    }
+
+    @Override protected void validateTestMethods(List<Throwable> errors) {
+        super.validateTestMethods(errors);
+
+        for (FrameworkMethod each : getTestClass().getAnnotatedMethods(Zipped.class)) {
+            for (Parameter p : each.getMethod().getParameters()) {
+                if (!p.isAnnotationPresent(ForAll.class)) {
+                    errors.add(new Error(format("Method %s is marked @%s, but its parameter %s is not marked @%s",
+                        each.getName(), Zipped.class.getSimpleName(), p.getName(), ForAll.class.getSimpleName())));
+                }
+            }
+        }
+    }
+
+    @Override public Statement methodBlock(FrameworkMethod method) {
+        boolean zipped = method.getAnnotation(Zipped.class) != null;
+        int workers = workers(getTestClass().getAnnotation(Parallel.class));
+
+        return new ReportingGenerationMetrics(new QuickcheckTheoryAnchor(method, getTestClass(), zipped, workers));
+    }
+
+    private static int workers(Parallel parallel) {
+        if (parallel == null)
+            return 1;
+
+        return parallel.workers() > 0 ? parallel.workers() : Runtime.getRuntime().availableProcessors();
+    }
+
+    static class QuickcheckTheoryAnchor extends TheoryAnchor {
+        private final Method theory;
+        private final TestClass testClass;
+        private final boolean zipped;
+        private final int workers;
+
+        private final List<AssumptionViolatedException> invalidParameters = new ArrayList<>();
+        private int successes;
+        private ExecutorService executor;
+        private Semaphore inFlight;
+        private int trials;
+        private final NavigableMap<Integer, Future<?>> running = new ConcurrentSkipListMap<>();
+        private volatile int firstFailedTrial = Integer.MAX_VALUE;
+        private Throwable firstFailure;
+
+        QuickcheckTheoryAnchor(FrameworkMethod method, TestClass testClass, boolean zipped, int workers) {
+            super(method, testClass);
+
+            this.theory = method.getMethod();
+            this.testClass = testClass;
+            this.zipped = zipped;
+            this.workers = workers;
+        }
+
+        @Override public void evaluate() throws Throwable {
+            if (workers == 1) {
+                super.evaluate();
+                return;
+            }
+
+            executor = Executors.newFixedThreadPool(workers);
+            inFlight = new Semaphore(2 * workers);
+
+            Throwable generationFailure = null;
+            try {
+                runWithAssignment(Assignments.allUnassigned(theory, testClass));
+            } catch (Throwable ex) {
+                // Whatever stopped generation, TrialsHalted included, gives way to a failed trial below.
+                generationFailure = ex;
+            }
+
+            try {
+                awaitTrialsBeforeFirstFailure();
+            } finally {
+                executor.shutdownNow();
+            }
+
+            report(generationFailure);
+        }
+
+        @Override protected void runWithIncompleteAssignment(Assignments incomplete) throws Throwable {
+            // The next parameter's values are seeded by the trial they begin at, not by anything that ran before.
+            RandomValueSupplier.startingAtTrial(trials);
+            try {
+                runWithNextParameter(incomplete);
+            } finally {
+                RandomValueSupplier.anyTrial();
+            }
+        }
+
+        private void runWithNextParameter(Assignments incomplete) throws Throwable {
+            // Constructor parameters, which come first, are still combined the usual way.
+            if (!zipped || !declaredByTheory(incomplete.nextUnassigned())) {
+                super.runWithIncompleteAssignment(incomplete);
+                return;
+            }
+
+            for (List<PotentialAssignment> tuple
+                : RandomValueSupplier.getZippedValueSources(ParameterSignature.signatures(theory))) {
+
+                Assignments complete = incomplete;
+                for (PotentialAssignment each : tuple)
+                    complete = complete.assignNext(each);
+
+                runWithAssignment(complete);
+            }
+        }
+
+        @Override protected void runWithCompleteAssignment(Assignments complete) throws Throwable {
+            int trial = trials++;
+
+            if (workers == 1) {
+                super.runWithCompleteAssignment(complete);
+                return;
+            }
+
+            // Bound the number of generated values awaiting execution.
+            inFlight.acquire();
+            if (firstFailedTrial != Integer.MAX_VALUE) {
+                inFlight.release();
+                throw new TrialsHalted();
+            }
+
+            Trial task = new Trial(trial, complete);
+            running.put(trial, task);
+            executor.execute(task);
+        }
+
+        private void runTrial(int trial, Assignments complete) {
+            // A trial may fail with any throwable at all -- assertion errors above all -- so the catch is broad.
+            try {
+                // Abandon trials that come after a known failure.
+                if (trial < firstFailedTrial)
+                    super.runWithCompleteAssignment(complete);
+            } catch (Throwable ex) {
+                trialFailed(trial, ex);
+            }
+        }
+
+        private synchronized void trialFailed(int trial, Throwable failure) {
+            if (trial < firstFailedTrial) {
+                firstFailedTrial = trial;
+                firstFailure = failure;
+
+                for (Future<?> each : running.tailMap(trial, false).values())
+                    each.cancel(true);
+            }
+        }
+
+        private void awaitTrialsBeforeFirstFailure() throws Exception {
+            // Trials are only ever cancelled after an earlier one fails, and those are never waited for.
+            for (Map.Entry<Integer, Future<?>> each : running.entrySet()) {
+                if (each.getKey() > firstFailedTrial)
+                    return;
+
+                each.getValue().get();
+            }
+        }
+
+        // Report what a one-trial-at-a-time run would have reported.
+        private synchronized void report(Throwable generationFailure) throws Throwable {
+            if (firstFailure != null)
+                throw firstFailure;
+            if (generationFailure != null)
+                throw generationFailure;
+            if (successes == 0 && theory.getAnnotation(Theory.class) != null) {
+                fail("Never found parameters that satisfied method assumptions.  Violated assumptions: "
+                    + invalidParameters);
+            }
+        }
+
+        @Override protected synchronized void handleAssumptionViolation(AssumptionViolatedException e) {
+            invalidParameters.add(e);
+            super.handleAssumptionViolation(e);
+        }
+
+        @Override protected synchronized void handleDataPointSuccess() {
+            ++successes;
+            super.handleDataPointSuccess();
+        }
+
+        private boolean declaredByTheory(ParameterSignature signature) {
+            return signature.getDeclarerName().equals(theory.getDeclaringClass().getName() + '.' + theory.getName());
+        }
+
+        private class Trial extends FutureTask<Void> {
+            private final int number;
+
+            Trial(int number, Assignments complete) {
+                super(() -> runTrial(number, complete), null);
+
+                this.number = number;
+            }
+
+            // Also runs when a trial is cancelled before it starts, so generation can always go on to halt.
+            @Override protected void done() {
+                running.remove(number);
+                inFlight.release();
+            }
+        }
+    }
+
+    private static class ReportingGenerationMetrics extends Statement {
+        private final Statement anchor;
+
+        ReportingGenerationMetrics(Statement anchor) {
+            this.anchor = anchor;
+        }
+
+        // Reported however the run ends, so a failing trial still accounts for the values generated before it.
+        @Override public void evaluate() throws Throwable {
+            TheoryRunMetrics run = TheoryRunMetrics.begin();
+            try {
+                anchor.evaluate();
+            } finally {
+                run.end();
+            }
+        }
+    }
+
+    private static class TrialsHalted extends RuntimeException {
+        private static final long serialVersionUID = Long.MIN_VALUE;
+
+        TrialsHalted() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import java.util.function.Predicate;
+
+import com.pholser.junit.quickcheck.internal.ReflectionException;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import org.junit.Test;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.runner.RunWith;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class ConstraintPredicateTest {
+    @Test public void predicate() {
+        assertThat(testResult(WithPredicate.class), isSuccessful());
+        assertEquals(100, WithPredicate.iterations);
+    }
+
+    @RunWith(Theories.class)
+    public static class WithPredicate {
+        static int iterations;
+
+        @Theory public void shouldHold(@ForAll(discardRatio = 10, satisfying = Even.class) Foo f) {
+            ++iterations;
+            assertEquals(0, f.i() % 2);
+        }
+    }
+
+    @Test public void predicateAndExpression() {
+        assertThat(testResult(WithPredicateAndExpression.class), isSuccessful());
+        assertEquals(100, WithPredicateAndExpression.iterations);
+    }
+
+    @RunWith(Theories.class)
+    public static class WithPredicateAndExpression {
+        static int iterations;
+
+        @Theory public void shouldHold(
+            @ForAll(discardRatio = 50, satisfying = Even.class, suchThat = "#_.i() > 0") Foo f) {
+
+            ++iterations;
+            assertEquals(0, f.i() % 2);
+            assertThat(f.i(), greaterThan(0));
+        }
+    }
+
+    @Test public void predicateWithoutZeroArgConstructor() {
+        assertThat(
+            testResult(WithUninstantiablePredicate.class),
+            hasSingleFailureContaining(ReflectionException.class.getName()));
+    }
+
+    @RunWith(Theories.class)
+    public static class WithUninstantiablePredicate {
+        @Theory public void shouldHold(@ForAll(satisfying = Above.class) Foo f) {
+        }
+    }
+
+    public static class Even implements Predicate<Foo> {
+        @Override public boolean test(Foo f) {
+            return f.i() % 2 == 0;
+        }
+    }
+
+    public static class Above implements Predicate<Foo> {
+        private final int floor;
+
+        public Above(int floor) {
+            this.floor = floor;
+        }
+
+        @Override public boolean test(Foo f) {
+            return f.i() > floor;
+        }
+    }
+}
@@ -27,7 +27,6 @@ package com.pholser.junit.quickcheck;
 
 import com.pholser.junit.quickcheck.test.generator.Box;
 import com.pholser.junit.quickcheck.test.generator.Foo;
-import com.pholser.junit.quickcheck.test.generator.FooGenerator;
 import com.pholser.junit.quickcheck.test.generator.FooBoxOpener;
 import org.junit.Test;
 import org.junit.contrib.theories.Theories;
@@ -35,7 +34,6 @@ import org.junit.contrib.theories.Theory;
 import org.junit.runner.RunWith;
 
 import static com.pholser.junit.quickcheck.Annotations.*;
-import static com.pholser.junit.quickcheck.Functions.functionValue;
 import static org.junit.Assert.*;
 import static org.junit.experimental.results.PrintableResult.*;
 import static org.junit.experimental.results.ResultMatchers.*;
@@ -53,8 +51,7 @@ public class ForAllLambdaTheoryParameterTypesTest {
         @Theory public void shouldHold(@ForAll FooBoxOpener b) {
             ++iterations;
 
-            @SuppressWarnings("unchecked")
-            Foo value = functionValue(new FooGenerator(), new Object[] { new Box<>(new Foo(2)) });
+            Foo value = b.open(new Box<>(new Foo(2)));
             for (int i = 0; i < 10000; ++i)
                 assertEquals(value, b.open(new Box<>(new Foo(2))));
         }
@@ -0,0 +1,173 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.pholser.junit.quickcheck.metrics.GenerationListener;
+import com.pholser.junit.quickcheck.metrics.GenerationMetrics;
+import com.pholser.junit.quickcheck.metrics.Slf4jGenerationListener;
+import com.pholser.junit.quickcheck.runner.QuickcheckTheories;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.contrib.theories.Theory;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.slf4j.helpers.NOPLogger;
+
+import static java.nio.charset.StandardCharsets.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class GenerationMetricsTest {
+    @Rule public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Before public void beforeEach() {
+        Recording.metrics.clear();
+    }
+
+    @After public void afterEach() {
+        System.clearProperty("junit-quickcheck.metrics.listener");
+        System.clearProperty("junit-quickcheck.metrics.json");
+    }
+
+    @Test public void systemPropertyChoosesListener() {
+        System.setProperty("junit-quickcheck.metrics.listener", Recording.class.getName());
+
+        assertThat(testResult(EvensOnly.class), isSuccessful());
+
+        assertEquals(1, Recording.metrics.size());
+        GenerationMetrics metrics = Recording.metrics.get(0);
+        assertThat(metrics.parameterName(), containsString("shouldHold"));
+        assertEquals(10, metrics.sampleSize());
+        assertEquals(10, metrics.accepted());
+        assertEquals(metrics.accepted() + metrics.discarded(), metrics.generated());
+        assertThat(metrics.generationNanos(), greaterThanOrEqualTo(0L));
+        assertThat(metrics.evaluationNanos(), greaterThan(0L));
+    }
+
+    @Test public void reportsMetricsWhenDiscardRatioExceeded() {
+        System.setProperty("junit-quickcheck.metrics.listener", Recording.class.getName());
+
+        assertThat(testResult(Unsatisfiable.class), failureCountIs(1));
+
+        assertEquals(1, Recording.metrics.size());
+        assertEquals(0, Recording.metrics.get(0).accepted());
+        assertEquals(Double.POSITIVE_INFINITY, Recording.metrics.get(0).discardRatio(), 0);
+    }
+
+    @Test public void systemPropertyAddsJsonSink() throws Exception {
+        File json = new File(folder.getRoot(), "metrics.json");
+        System.setProperty("junit-quickcheck.metrics.listener", Recording.class.getName());
+        System.setProperty("junit-quickcheck.metrics.json", json.getPath());
+
+        assertThat(testResult(EvensOnly.class), isSuccessful());
+        assertThat(testResult(EvensOnly.class), isSuccessful());
+
+        List<String> lines = Files.readAllLines(json.toPath(), UTF_8);
+        assertEquals(2, lines.size());
+        assertThat(lines.get(0), containsString("\"accepted\":10"));
+        assertEquals(2, Recording.metrics.size());
+    }
+
+    @Test public void reportsOncePerParameterAcrossEveryPassOverItsValues() {
+        System.setProperty("junit-quickcheck.metrics.listener", Recording.class.getName());
+
+        assertThat(testResult(TwoParameters.class), isSuccessful());
+
+        assertEquals(2, Recording.metrics.size());
+        assertThat(Recording.metrics.get(0).parameterName(), containsString("arg0"));
+        assertEquals(10, Recording.metrics.get(0).accepted());
+        assertThat(Recording.metrics.get(1).parameterName(), containsString("arg1"));
+        assertEquals(100, Recording.metrics.get(1).accepted());
+        assertEquals(100, Recording.metrics.get(1).sampleSize());
+    }
+
+    @Test public void reportsMetricsWhenATrialFails() {
+        System.setProperty("junit-quickcheck.metrics.listener", Recording.class.getName());
+
+        assertThat(testResult(FailsAtOnce.class), failureCountIs(1));
+
+        assertEquals(1, Recording.metrics.size());
+        assertThat(Recording.metrics.get(0).accepted(), greaterThan(0));
+    }
+
+    @Test public void chainedListenersWantTimingsIfEitherDoes() {
+        GenerationListener untimed = new Slf4jGenerationListener(NOPLogger.NOP_LOGGER);
+
+        assertFalse(untimed.wantsTimings());
+        assertTrue(untimed.andThen(new Recording()).wantsTimings());
+        assertFalse(untimed.andThen(untimed).wantsTimings());
+    }
+
+    @Test public void unusableListenerSystemPropertyValue() {
+        System.setProperty("junit-quickcheck.metrics.listener", String.class.getName());
+
+        assertThat(testResult(EvensOnly.class), hasFailureContaining(ClassCastException.class.getName()));
+    }
+
+    @RunWith(QuickcheckTheories.class)
+    public static class EvensOnly {
+        @Theory public void shouldHold(@ForAll(sampleSize = 10, discardRatio = 10, suchThat = "#_.i() % 2 == 0") Foo f) {
+            assertEquals(0, f.i() % 2);
+        }
+    }
+
+    @RunWith(QuickcheckTheories.class)
+    public static class Unsatisfiable {
+        @Theory public void shouldHold(@ForAll(discardRatio = 5, suchThat = "#_.i() % 2 == 2") Foo f) {
+        }
+    }
+
+    @RunWith(QuickcheckTheories.class)
+    public static class TwoParameters {
+        @Theory public void shouldHold(@ForAll(sampleSize = 10) Foo f, @ForAll(sampleSize = 10) Foo g) {
+        }
+    }
+
+    @RunWith(QuickcheckTheories.class)
+    public static class FailsAtOnce {
+        @Theory public void shouldHold(@ForAll Foo f) {
+            fail();
+        }
+    }
+
+    public static class Recording implements GenerationListener {
+        static final List<GenerationMetrics> metrics = new CopyOnWriteArrayList<>();
+
+        @Override public void generated(GenerationMetrics m) {
+            metrics.add(m);
+        }
+    }
+}
@@ -25,6 +25,9 @@
 
 package com.pholser.junit.quickcheck;
 
+import java.util.List;
+
+import com.pholser.junit.quickcheck.internal.ReflectionException;
 import com.pholser.junit.quickcheck.test.generator.Between;
 import com.pholser.junit.quickcheck.test.generator.Box;
 import com.pholser.junit.quickcheck.test.generator.Foo;
@@ -34,7 +37,9 @@ import com.pholser.junit.quickcheck.test.generator.TestIntegerGenerator;
 import org.junit.Test;
 import org.junit.contrib.theories.Theories;
 import org.junit.contrib.theories.Theory;
+import org.junit.runner.JUnitCore;
 import org.junit.runner.RunWith;
+import org.junit.runner.notification.Failure;
 
 import static com.pholser.junit.quickcheck.test.generator.FooGenerator.*;
 import static org.hamcrest.Matchers.*;
@@ -118,6 +123,26 @@ public class MarkingTypeUsesWithConfigurationTest {
         }
     }
 
+    @Test public void configurationRejectedByGenerator() throws Exception {
+        List<Failure> failures = JUnitCore.runClasses(ConfigurationRejectedByGenerator.class).getFailures();
+
+        assertEquals(1, failures.size());
+        assertThat(failures.get(0).getException(), instanceOf(ReflectionException.class));
+        assertEquals(new IllegalArgumentException("3 > 2").toString(), failures.get(0).getMessage());
+    }
+
+    @RunWith(Theories.class)
+    public static class ConfigurationRejectedByGenerator {
+        @Theory public void holds(@ForAll @From(Rejecting.class) @Between(min = 3, max = 2) int i) {
+        }
+    }
+
+    public static class Rejecting extends TestIntegerGenerator {
+        @Override public void configure(Between range) {
+            throw new IllegalArgumentException(range.min() + " > " + range.max());
+        }
+    }
+
     /*
     @Test public void alternateGeneratorOnGenericParameter() throws Exception {
         assertThat(testResult(AlternateGeneratorOnGenericParameter.class), isSuccessful());
@@ -0,0 +1,147 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.runner.QuickcheckTheories;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import org.junit.Test;
+import org.junit.contrib.theories.Theory;
+import org.junit.runner.RunWith;
+
+import static java.util.concurrent.TimeUnit.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.junit.Assume.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class ParallelTrialsTest {
+    @Test public void runsEveryTrial() {
+        assertThat(testResult(EveryTrial.class), isSuccessful());
+        assertEquals(200, EveryTrial.iterations.get());
+    }
+
+    @RunWith(QuickcheckTheories.class)
+    @Parallel(workers = 4)
+    public static class EveryTrial {
+        static final AtomicInteger iterations = new AtomicInteger();
+
+        @Theory public void shouldHold(@ForAll(sampleSize = 10) Foo f, @ForAll(sampleSize = 20) Foo g) {
+            iterations.incrementAndGet();
+        }
+    }
+
+    @Test public void runsTrialsConcurrently() {
+        assertThat(testResult(ConcurrentTrials.class), isSuccessful());
+    }
+
+    @RunWith(QuickcheckTheories.class)
+    @Parallel(workers = 2)
+    public static class ConcurrentTrials {
+        static final CountDownLatch bothStarted = new CountDownLatch(2);
+
+        @Theory public void shouldHold(@ForAll(sampleSize = 2) Foo f) throws Exception {
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(10, SECONDS));
+        }
+    }
+
+    @Test public void reportsEarliestFailureInGenerationOrder() {
+        assertThat(testResult(LaterTrialsFailFaster.class), hasSingleFailureContaining("Foo[10]"));
+        assertThat(LaterTrialsFailFaster.iterations.get(), lessThan(100));
+    }
+
+    @RunWith(QuickcheckTheories.class)
+    @Parallel(workers = 4)
+    public static class LaterTrialsFailFaster {
+        static final AtomicInteger iterations = new AtomicInteger();
+
+        @Theory public void shouldHold(@ForAll @From(Ordinals.class) Foo f) throws Exception {
+            iterations.incrementAndGet();
+            if (f.i() == 10)
+                MILLISECONDS.sleep(100);
+
+            assertThat(f.i(), lessThan(10));
+        }
+    }
+
+    @Test public void cancelsLaterTrialsOnceAnEarlierOneFails() throws Exception {
+        long start = System.nanoTime();
+
+        assertThat(testResult(LaterTrialHangs.class), hasSingleFailureContaining("Foo[0]"));
+        assertThat(NANOSECONDS.toSeconds(System.nanoTime() - start), lessThan(10L));
+        assertTrue(LaterTrialHangs.interrupted.await(10, SECONDS));
+    }
+
+    @RunWith(QuickcheckTheories.class)
+    @Parallel(workers = 2)
+    public static class LaterTrialHangs {
+        static final CountDownLatch laterStarted = new CountDownLatch(1);
+        static final CountDownLatch interrupted = new CountDownLatch(1);
+
+        @Theory public void shouldHold(@ForAll(sampleSize = 2) @From(Ordinals.class) Foo f) throws Exception {
+            if (f.i() == 0) {
+                assertTrue(laterStarted.await(10, SECONDS));
+                assertThat(f.i(), greaterThan(0));
+            }
+
+            laterStarted.countDown();
+            try {
+                MINUTES.sleep(1);
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+            }
+        }
+    }
+
+    @Test public void failsWhenNoTrialSatisfiesAssumptions() {
+        assertThat(testResult(NoTrialSatisfiesAssumptions.class), hasFailureContaining("Never found parameters"));
+    }
+
+    @RunWith(QuickcheckTheories.class)
+    @Parallel
+    public static class NoTrialSatisfiesAssumptions {
+        @Theory public void shouldHold(@ForAll(sampleSize = 10) Foo f) {
+            assumeTrue(false);
+        }
+    }
+
+    public static class Ordinals extends Generator<Foo> {
+        public Ordinals() {
+            super(Foo.class);
+        }
+
+        @Override public Foo generate(SourceOfRandomness random, GenerationStatus status) {
+            return new Foo(status.attempts());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.pholser.junit.quickcheck.random.SplitMix64Random;
+import com.pholser.junit.quickcheck.random.Xoroshiro128PlusPlusRandom;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.runner.RunWith;
+
+import static com.pholser.junit.quickcheck.Annotations.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class SourceOfRandomnessTypeTest {
+    @Before public void beforeEach() {
+        ViaJDK.values.clear();
+        ViaSplitMix.values.clear();
+        ViaXoroshiro.values.clear();
+    }
+
+    @After public void afterEach() {
+        System.clearProperty("junit-quickcheck.random");
+    }
+
+    @Test public void sameSeedAndTypeReproduceValues() throws Exception {
+        assertThat(testResult(ViaSplitMix.class), isSuccessful());
+        List<Integer> first = new ArrayList<>(ViaSplitMix.values);
+        ViaSplitMix.values.clear();
+
+        assertThat(testResult(ViaSplitMix.class), isSuccessful());
+
+        assertEquals(defaultSampleSize(), first.size());
+        assertEquals(first, ViaSplitMix.values);
+    }
+
+    @Test public void differentTypesGiveDifferentValuesForSameSeed() {
+        assertThat(testResult(ViaJDK.class), isSuccessful());
+        assertThat(testResult(ViaSplitMix.class), isSuccessful());
+
+        assertThat(ViaSplitMix.values, not(equalTo(ViaJDK.values)));
+    }
+
+    @Test public void systemPropertyChoosesTypeForUnspecifiedParameters() {
+        assertThat(testResult(ViaXoroshiro.class), isSuccessful());
+        List<Integer> explicit = new ArrayList<>(ViaXoroshiro.values);
+
+        System.setProperty("junit-quickcheck.random", Xoroshiro128PlusPlusRandom.class.getName());
+        assertThat(testResult(ViaJDK.class), isSuccessful());
+
+        assertEquals(explicit, ViaJDK.values);
+    }
+
+    @Test public void unusableSystemPropertyValue() {
+        System.setProperty("junit-quickcheck.random", String.class.getName());
+
+        assertThat(testResult(ViaJDK.class), hasFailureContaining(ClassCastException.class.getName()));
+    }
+
+    @RunWith(Theories.class)
+    public static class ViaJDK {
+        static final List<Integer> values = new ArrayList<>();
+
+        @Theory public void shouldHold(@ForAll(seed = 7) Foo f) {
+            values.add(f.i());
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class ViaSplitMix {
+        static final List<Integer> values = new ArrayList<>();
+
+        @Theory public void shouldHold(@ForAll(seed = 7, random = SplitMix64Random.class) Foo f) {
+            values.add(f.i());
+        }
+    }
+
+    @RunWith(Theories.class)
+    public static class ViaXoroshiro {
+        static final List<Integer> values = new ArrayList<>();
+
+        @Theory public void shouldHold(@ForAll(seed = 7, random = Xoroshiro128PlusPlusRandom.class) Foo f) {
+            values.add(f.i());
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import org.junit.Test;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.runner.RunWith;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class StreamingValueSourcesTest {
+    // Values are drawn a chunk of this many at a time.
+    private static final int CHUNK_SIZE = 64;
+
+    @Test public void stopsGeneratingValuesOnceATrialFails() {
+        assertThat(testResult(FailsOnFirstTrial.class), failureCountIs(1));
+        assertEquals(1, FailsOnFirstTrial.iterations);
+        assertEquals(CHUNK_SIZE, CountingFooGenerator.generations);
+    }
+
+    @RunWith(Theories.class)
+    public static class FailsOnFirstTrial {
+        static int iterations;
+
+        @Theory public void shouldHold(@ForAll(sampleSize = 1000) @From(CountingFooGenerator.class) Foo f) {
+            ++iterations;
+            fail();
+        }
+    }
+
+    @Test public void generatesValuesAsTrialsConsumeThem() {
+        assertThat(testResult(InterleavedWithTrials.class), isSuccessful());
+        assertEquals(200, InterleavedWithTrials.iterations);
+    }
+
+    @RunWith(Theories.class)
+    public static class InterleavedWithTrials {
+        static int iterations;
+
+        @Theory public void shouldHold(@ForAll(sampleSize = 200) @From(ObservedFooGenerator.class) Foo f) {
+            ++iterations;
+            assertThat(ObservedFooGenerator.generations - iterations, lessThan(CHUNK_SIZE));
+        }
+    }
+
+    public static class CountingFooGenerator extends Generator<Foo> {
+        static int generations;
+
+        public CountingFooGenerator() {
+            super(Foo.class);
+        }
+
+        @Override public Foo generate(SourceOfRandomness random, GenerationStatus status) {
+            ++generations;
+            return new Foo(random.nextInt());
+        }
+    }
+
+    public static class ObservedFooGenerator extends Generator<Foo> {
+        static int generations;
+
+        public ObservedFooGenerator() {
+            super(Foo.class);
+        }
+
+        @Override public Foo generate(SourceOfRandomness random, GenerationStatus status) {
+            ++generations;
+            return new Foo(random.nextInt());
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import com.pholser.junit.quickcheck.runner.QuickcheckTheories;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import org.junit.Test;
+import org.junit.contrib.theories.Theory;
+import org.junit.runner.RunWith;
+
+import static com.pholser.junit.quickcheck.Annotations.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class ZippedTheoryTest {
+    @Test public void runsOneTrialPerTupleRatherThanTheCartesianProduct() throws Exception {
+        assertThat(testResult(ThreeParameters.class), isSuccessful());
+        assertEquals(defaultSampleSize(), ThreeParameters.iterations);
+    }
+
+    @RunWith(QuickcheckTheories.class)
+    public static class ThreeParameters {
+        static int iterations;
+
+        @Zipped
+        @Theory public void shouldHold(@ForAll Foo f, @ForAll Foo g, @ForAll Foo h) {
+            ++iterations;
+        }
+    }
+
+    @Test public void runsAsManyTrialsAsTheLargestSampleSize() {
+        assertThat(testResult(DifferentSampleSizes.class), isSuccessful());
+        assertEquals(7, DifferentSampleSizes.iterations);
+    }
+
+    @RunWith(QuickcheckTheories.class)
+    public static class DifferentSampleSizes {
+        static int iterations;
+
+        @Zipped
+        @Theory public void shouldHold(@ForAll(sampleSize = 3) Foo f, @ForAll(sampleSize = 7) Foo g) {
+            ++iterations;
+        }
+    }
+
+    @Test public void honorsConstraintsOfEachParameter() {
+        assertThat(testResult(Constrained.class), isSuccessful());
+        assertEquals(10, Constrained.iterations);
+    }
+
+    @RunWith(QuickcheckTheories.class)
+    public static class Constrained {
+        static int iterations;
+
+        @Zipped
+        @Theory public void shouldHold(
+            @ForAll(sampleSize = 10, discardRatio = 100, suchThat = "#_.i() > 0") Foo f,
+            @ForAll(sampleSize = 10, discardRatio = 100, suchThat = "#_.i() < 0") Foo g) {
+
+            ++iterations;
+            assertThat(f.i(), greaterThan(0));
+            assertThat(g.i(), lessThan(0));
+        }
+    }
+
+    @Test public void unzippedTheoriesStillRunTheCartesianProduct() {
+        assertThat(testResult(NotZipped.class), isSuccessful());
+        assertEquals(21, NotZipped.iterations);
+    }
+
+    @RunWith(QuickcheckTheories.class)
+    public static class NotZipped {
+        static int iterations;
+
+        @Theory public void shouldHold(@ForAll(sampleSize = 3) Foo f, @ForAll(sampleSize = 7) Foo g) {
+            ++iterations;
+        }
+    }
+
+    @Test public void reportsTheFailingTuple() {
+        assertThat(testResult(FailingTuple.class), hasSingleFailureContaining("shouldHold"));
+        assertEquals(1, FailingTuple.iterations);
+    }
+
+    @RunWith(QuickcheckTheories.class)
+    public static class FailingTuple {
+        static int iterations;
+
+        @Zipped
+        @Theory public void shouldHold(@ForAll Foo f, @ForAll Foo g) {
+            ++iterations;
+            fail();
+        }
+    }
+
+    @Test public void zippedParametersMustAllBeMarkedForAll() {
+        assertThat(testResult(UnmarkedParameter.class), hasFailureContaining("is not marked @ForAll"));
+    }
+
+    @RunWith(QuickcheckTheories.class)
+    public static class UnmarkedParameter {
+        @Zipped
+        @Theory public void shouldHold(@ForAll Foo f, boolean b) {
+        }
+    }
+}
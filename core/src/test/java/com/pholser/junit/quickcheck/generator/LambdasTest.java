@@ -25,7 +25,15 @@
 
 package com.pholser.junit.quickcheck.generator;
 
+import java.lang.reflect.Proxy;
+import java.util.Comparator;
+import java.util.function.BiFunction;
+import java.util.function.IntBinaryOperator;
+
+import com.google.common.base.Function;
 import com.google.common.base.Predicate;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.random.SplitMix64Random;
 import com.pholser.junit.quickcheck.test.generator.TestBooleanGenerator;
 import com.pholser.junit.quickcheck.test.generator.TestIntegerGenerator;
 import org.junit.Before;
@@ -61,8 +69,83 @@ public class LambdasTest {
         assertEquals(System.identityHashCode(predicate), predicate.hashCode());
     }
 
-    @Test public void toStringGivesAnIndicationOfItsRandomGeneration() {
-        assertEquals("a randomly generated instance of " + Predicate.class, predicate.toString());
+    @Test public void onlyLambdasOfInterfacesHiddenFromLambdasAreProxies() {
+        assertFalse(Proxy.isProxyClass(predicate.getClass()));
+        assertTrue(Proxy.isProxyClass(makeLambda(Hidden.class, returnValueGenerator, null).getClass()));
+    }
+
+    @Test public void toStringOfProxiedLambdaGivesAnIndicationOfItsRandomGeneration() {
+        Hidden hidden = makeLambda(Hidden.class, returnValueGenerator, null);
+
+        assertEquals("a randomly generated instance of " + Hidden.class, hidden.toString());
+    }
+
+    @Test public void equalArgumentsGiveEqualReturnValues() {
+        @SuppressWarnings("unchecked")
+        Predicate<Object> p = makeLambda(Predicate.class, returnValueGenerator, null);
+
+        boolean value = p.apply("foo");
+        for (int i = 0; i < 1000; ++i)
+            assertEquals(value, p.apply("foo"));
+    }
+
+    @Test public void primitiveArgumentsAndReturnValues() {
+        IntBinaryOperator operator = makeLambda(IntBinaryOperator.class, new TestIntegerGenerator(), null);
+        @SuppressWarnings("unchecked")
+        Comparator<Object> comparator = makeLambda(Comparator.class, new TestIntegerGenerator(), null);
+
+        assertEquals(operator.applyAsInt(2, 3), operator.applyAsInt(2, 3));
+        assertEquals(comparator.compare("a", "b"), comparator.compare("a", "b"));
+    }
+
+    @Test public void argumentsWithEqualArrayHashCodesGiveDifferentReturnValues() {
+        @SuppressWarnings("unchecked")
+        BiFunction<Integer, Integer, Integer> f = makeLambda(BiFunction.class, new TestIntegerGenerator(), null);
+
+        assertNotEquals(f.apply(0, 31), f.apply(1, 0));
+    }
+
+    @Test public void lambdasWithTheirOwnSeedsGiveDifferentReturnValues() {
+        SourceOfRandomness random = new SourceOfRandomness(new SplitMix64Random(1L));
+        @SuppressWarnings("unchecked")
+        Function<Object, Integer> first = makeLambda(Function.class, new TestIntegerGenerator(), random, null);
+        @SuppressWarnings("unchecked")
+        Function<Object, Integer> second = makeLambda(Function.class, new TestIntegerGenerator(), random, null);
+
+        assertNotEquals(first.apply("foo"), second.apply("foo"));
+    }
+
+    @Test public void proxiedAndSpunLambdasAgree() {
+        @SuppressWarnings("unchecked")
+        Function<Object, Integer> spun = makeLambda(Function.class, new TestIntegerGenerator(), null);
+        Hidden proxied = makeLambda(Hidden.class, new TestIntegerGenerator(), null);
+        Quintary wide = makeLambda(Quintary.class, new TestIntegerGenerator(), null);
+
+        assertEquals(spun.apply("foo"), proxied.apply("foo"));
+        assertEquals(wide.apply(1, 2, 3, 4, 5), wide.apply(1, 2, 3, 4, 5));
+    }
+
+    @Test public void lambdasCalledWhileGeneratingReturnValuesDoNotDisturbEachOther() {
+        @SuppressWarnings("unchecked")
+        Predicate<Object> inner = makeLambda(Predicate.class, returnValueGenerator, null);
+        Generator<Integer> outerReturnValueGenerator = new Generator<Integer>(Integer.class) {
+            @Override public Integer generate(SourceOfRandomness random, GenerationStatus status) {
+                int first = random.nextInt();
+                inner.apply(first);
+                return first ^ random.nextInt();
+            }
+        };
+        Generator<Integer> aloneReturnValueGenerator = new Generator<Integer>(Integer.class) {
+            @Override public Integer generate(SourceOfRandomness random, GenerationStatus status) {
+                return random.nextInt() ^ random.nextInt();
+            }
+        };
+        @SuppressWarnings("unchecked")
+        Function<Object, Integer> outer = makeLambda(Function.class, outerReturnValueGenerator, null);
+        @SuppressWarnings("unchecked")
+        Function<Object, Integer> alone = makeLambda(Function.class, aloneReturnValueGenerator, null);
+
+        assertEquals(alone.apply(7), outer.apply(7));
     }
 
     @Test public void rejectsNonFunctionalInterface() {
@@ -71,4 +154,12 @@ public class LambdasTest {
 
         makeLambda(Cloneable.class, new TestIntegerGenerator(), null);
     }
+
+    interface Hidden {
+        Object apply(Object o);
+    }
+
+    public interface Quintary {
+        Object apply(int a, int b, int c, int d, int e);
+    }
 }
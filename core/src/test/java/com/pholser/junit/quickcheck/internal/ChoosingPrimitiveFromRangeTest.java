@@ -0,0 +1,123 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import java.util.Random;
+
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ChoosingPrimitiveFromRangeTest {
+    @Mock private SourceOfRandomness random;
+
+    @Test public void smallRangeScalesThirtyTwoRandomBits() {
+        when(random.nextInt()).thenReturn(0x80000001);
+
+        assertEquals(5L, Ranges.choose(random, 0L, 9L));
+        verify(random, never()).nextBigInteger(anyInt());
+    }
+
+    @Test public void smallRangeRejectsBiasedDraws() {
+        // 2^32 mod 3 == 1, so only a low product of 0 is rejected
+        when(random.nextInt()).thenReturn(0).thenReturn(-1);
+
+        assertEquals(2L, Ranges.choose(random, 0L, 2L));
+        verify(random, times(2)).nextInt();
+    }
+
+    @Test public void thirtyTwoBitRangeUsesRandomBitsDirectly() {
+        when(random.nextInt()).thenReturn(-1);
+
+        assertEquals(Integer.MAX_VALUE, Ranges.choose(random, Integer.MIN_VALUE, Integer.MAX_VALUE));
+    }
+
+    @Test public void powerOfTwoRangeMasksRandomLong() {
+        when(random.nextLong()).thenReturn(-1L);
+
+        assertEquals(10L + (1L << 40) - 1, Ranges.choose(random, 10L, 10L + (1L << 40) - 1));
+    }
+
+    @Test public void largeRangeRejectsBiasedDraws() {
+        long range = 3L << 40;
+        when(random.nextLong()).thenReturn(-1L).thenReturn(range << 1 | 1);
+
+        assertEquals(-4L, Ranges.choose(random, -4L, -4L + range - 1));
+        verify(random, times(2)).nextLong();
+    }
+
+    @Test public void fullRange() {
+        when(random.nextLong()).thenReturn(12345L);
+
+        assertEquals(12345L, Ranges.choose(random, Long.MIN_VALUE, Long.MAX_VALUE));
+    }
+
+    @Test public void rangeWiderThanLongMaxValueRejectsOutOfRangeDraws() {
+        when(random.nextLong()).thenReturn(Long.MAX_VALUE).thenReturn(-7L);
+
+        assertEquals(-7L, Ranges.choose(random, Long.MIN_VALUE, 1L));
+    }
+
+    @Test public void valuesStayInRange() {
+        SourceOfRandomness real = new SourceOfRandomness(new Random());
+        long[][] ranges = {
+            { -3L, 3L },
+            { 0L, (1L << 32) - 1 },
+            { 0L, 1L << 32 },
+            { Long.MIN_VALUE / 3, Long.MAX_VALUE / 3 },
+            { Long.MIN_VALUE, 0L },
+            { -1L, Long.MAX_VALUE }
+        };
+
+        for (long[] each : ranges) {
+            for (int i = 0; i < 1000; ++i) {
+                long value = Ranges.choose(real, each[0], each[1]);
+
+                assertThat(value, greaterThanOrEqualTo(each[0]));
+                assertThat(value, lessThanOrEqualTo(each[1]));
+            }
+        }
+    }
+
+    @Test public void smallRangeIsEvenlyCovered() {
+        SourceOfRandomness real = new SourceOfRandomness(new Random());
+        real.setSeed(1L);
+        int[] counts = new int[6];
+
+        for (int i = 0; i < 60000; ++i)
+            ++counts[(int) Ranges.choose(real, 0L, 5L)];
+
+        for (int each : counts)
+            assertThat(each, allOf(greaterThan(9000), lessThan(11000)));
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.pholser.junit.quickcheck.ForAll;
+import com.pholser.junit.quickcheck.runner.QuickcheckTheories;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import org.junit.Test;
+import org.junit.contrib.theories.Theory;
+import org.junit.runner.RunWith;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class DerivingParameterSeedsTest {
+    @Test public void sameSuiteSeedParameterAndOrdinalGiveSameSeed() {
+        assertEquals(
+            Seeds.forParameter(42L, "com.x.Theories.holds:i", 3L),
+            Seeds.forParameter(42L, "com.x.Theories.holds:i", 3L));
+    }
+
+    @Test public void differentSuiteSeedsGiveDifferentSeeds() {
+        assertNotEquals(
+            Seeds.forParameter(42L, "com.x.Theories.holds:i", 0L),
+            Seeds.forParameter(43L, "com.x.Theories.holds:i", 0L));
+    }
+
+    @Test public void differentParametersGiveDifferentSeeds() {
+        assertNotEquals(
+            Seeds.forParameter(42L, "com.x.Theories.holds:i", 0L),
+            Seeds.forParameter(42L, "com.x.Theories.holds:j", 0L));
+        assertNotEquals(
+            Seeds.forParameter(42L, "com.x.Theories.holds:i", 0L),
+            Seeds.forParameter(42L, "com.x.Theories.fails:i", 0L));
+    }
+
+    @Test public void differentOrdinalsGiveDifferentSeeds() {
+        assertNotEquals(
+            Seeds.forParameter(42L, "com.x.Theories.holds:i", 0L),
+            Seeds.forParameter(42L, "com.x.Theories.holds:i", 1L));
+    }
+
+    @Test public void requestsForParameterAtSameTrialGetSameSeed() {
+        String name = getClass().getName() + ".successive:p";
+
+        long first = Seeds.forParameter(name, 3);
+        long second = Seeds.forParameter(name, 3);
+
+        assertEquals(Seeds.forParameter(Seeds.suite(), name, 3L), first);
+        assertEquals(first, second);
+    }
+
+    @Test public void rerunsDrawTheSameValues() {
+        NestedParameters.values.clear();
+        assertThat(testResult(NestedParameters.class), isSuccessful());
+        List<String> first = new ArrayList<>(NestedParameters.values);
+        NestedParameters.values.clear();
+        assertThat(testResult(NestedParameters.class), isSuccessful());
+
+        assertEquals(first, NestedParameters.values);
+    }
+
+    @Test public void laterParameterGetsFreshValuesForEachEarlierValue() {
+        NestedParameters.values.clear();
+
+        assertThat(testResult(NestedParameters.class), isSuccessful());
+
+        List<String> values = NestedParameters.values;
+        assertEquals(9, values.size());
+        assertNotEquals(inner(values.subList(0, 3)), inner(values.subList(3, 6)));
+    }
+
+    private static List<String> inner(List<String> pairs) {
+        List<String> inner = new ArrayList<>();
+        for (String each : pairs)
+            inner.add(each.substring(each.indexOf('/')));
+        return inner;
+    }
+
+    @RunWith(QuickcheckTheories.class)
+    public static class NestedParameters {
+        static final List<String> values = new ArrayList<>();
+
+        @Theory public void holds(@ForAll(sampleSize = 3) Foo f, @ForAll(sampleSize = 3) Foo g) {
+            values.add(f.i() + "/" + g.i());
+        }
+    }
+}
@@ -125,6 +125,55 @@ public class ReflectionTest {
         instantiate(InvocationTargetProblematic.class.getConstructor(int.class), 2);
     }
 
+    @Test public void invokingSpreadConstructor() throws Exception {
+        Object[] args = { 3 };
+
+        assertEquals(3, instantiate(spreadConstructor(Integer.class.getDeclaredConstructor(int.class)), args));
+    }
+
+    @Test public void makingSpreadConstructorForAbstractClass() throws Exception {
+        thrown.expect(ReflectionException.class);
+        thrown.expectMessage(InstantiationException.class.getName());
+
+        spreadConstructor(MultiArgInstantiationProblematic.class.getConstructor(int.class));
+    }
+
+    @Test public void invokingSpreadConstructorWithArgumentOfWrongType() throws Exception {
+        Object[] args = { "2" };
+
+        thrown.expect(ReflectionException.class);
+        thrown.expectMessage(ClassCastException.class.getName());
+
+        instantiate(spreadConstructor(Integer.class.getDeclaredConstructor(int.class)), args);
+    }
+
+    @Test public void invokingSpreadConstructorWrapsExceptionsRaisedByConstructor() throws Exception {
+        Object[] args = { 2 };
+
+        thrown.expect(ReflectionException.class);
+        thrown.expectMessage(IndexOutOfBoundsException.class.getName());
+
+        instantiate(spreadConstructor(InvocationTargetProblematic.class.getConstructor(int.class)), args);
+    }
+
+    @Test public void invokingConstructorHandle() throws Throwable {
+        assertEquals(3, constructorHandle(Integer.class.getDeclaredConstructor(int.class)).invoke(3));
+    }
+
+    @Test public void makingConstructorHandleForAbstractClass() throws Exception {
+        thrown.expect(ReflectionException.class);
+        thrown.expectMessage(InstantiationException.class.getName());
+
+        constructorHandle(MultiArgInstantiationProblematic.class.getConstructor(int.class));
+    }
+
+    @Test public void invokingConstructorHandleWrapsExceptionsRaisedByConstructor() throws Throwable {
+        thrown.expect(ReflectionException.class);
+        thrown.expectMessage(IndexOutOfBoundsException.class.getName());
+
+        constructorHandle(InvocationTargetProblematic.class.getConstructor(int.class)).invoke(2);
+    }
+
     private abstract static class ZeroArgInstantiationProblematic {
         protected ZeroArgInstantiationProblematic() {
             // no-op
@@ -310,6 +359,33 @@ public class ReflectionTest {
         setField(target.getClass().getDeclaredField("i"), target, 4, false);
     }
 
+    @Test public void settingInaccessibleFieldViaSetter() throws Exception {
+        WithInaccessibleField target = new WithInaccessibleField();
+
+        setField(fieldSetter(target.getClass().getDeclaredField("i")), target, 5);
+
+        assertEquals(5, target.i);
+    }
+
+    @Test public void settingFieldViaSetterWithValueOfWrongType() throws Exception {
+        WithInaccessibleField target = new WithInaccessibleField();
+
+        thrown.expect(ClassCastException.class);
+
+        setField(fieldSetter(target.getClass().getDeclaredField("i")), target, "6");
+    }
+
+    @Test public void makingSetterForStaticFinalField() throws Exception {
+        thrown.expect(ReflectionException.class);
+        thrown.expectMessage(IllegalAccessException.class.getName());
+
+        fieldSetter(WithStaticFinalField.class.getDeclaredField("I"));
+    }
+
+    public static class WithStaticFinalField {
+        private static final int I = 7;
+    }
+
     @Test public void findingAllDeclaredFieldsOnAClass() throws Exception {
         List<Field> fields = allDeclaredFieldsOf(Child.class);
 
@@ -351,6 +427,31 @@ public class ReflectionTest {
         assertEquals(W.class, annotations.get(3).annotationType());
     }
 
+    @Test public void findingAnnotationsOfAnnotationTypeRecursivelyIsDoneOnce() {
+        List<Annotation> annotations = allAnnotations(X.class);
+
+        assertEquals(3, annotations.size());
+        assertEquals(Y.class, annotations.get(0).annotationType());
+        assertEquals(Z.class, annotations.get(1).annotationType());
+        assertEquals(W.class, annotations.get(2).annotationType());
+        assertSame(annotations, allAnnotations(X.class));
+    }
+
+    @Test public void findingAnnotationsByTypeRecursively() {
+        Method method = findMethod(this.getClass(), "withMarker", String.class);
+
+        List<W> annotations = allAnnotationsByType(method.getParameters()[0], W.class);
+
+        assertEquals(1, annotations.size());
+        assertSame(allAnnotationsByType(X.class, W.class), allAnnotationsByType(X.class, W.class));
+    }
+
+    @Test public void makingHandleForInaccessibleMethod() throws Throwable {
+        Method method = ZeroArgIllegalAccessProblematic.class.getDeclaredMethod("foo");
+
+        methodHandle(method).invoke(new ZeroArgIllegalAccessProblematic(0));
+    }
+
     public void withMarker(@X String s) {
     }
 
@@ -23,22 +23,12 @@
  WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
 */
 
-package com.pholser.junit.quickcheck;
+package com.pholser.junit.quickcheck.internal;
 
-import com.pholser.junit.quickcheck.generator.Generator;
-import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.UtilityClassesUninstantiabilityHarness;
 
-import java.util.Arrays;
-import java.util.Random;
-
-public class Functions {
-    private Functions() {
-        throw new UnsupportedOperationException();
-    }
-
-    public static <T> T functionValue(Generator<T> generator, Object[] args) {
-        SourceOfRandomness source = new SourceOfRandomness(new Random());
-        source.setSeed(Arrays.hashCode(args));
-        return generator.generate(source, null);
+public class SeedsUtilityClassTest extends UtilityClassesUninstantiabilityHarness {
+    public SeedsUtilityClassTest() {
+        super(Seeds.class);
     }
 }
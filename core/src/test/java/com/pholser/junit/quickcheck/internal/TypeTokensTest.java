@@ -0,0 +1,88 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+import org.javaruntype.type.Types;
+import org.junit.Test;
+
+import static com.pholser.junit.quickcheck.internal.TypeTokens.*;
+import static org.junit.Assert.*;
+
+public class TypeTokensTest {
+    public List<String> strings;
+    public Map<String, ? extends Number>[] maps;
+    public List<? super Integer> wildcard;
+    public Map<String, TypeTokensTest> ownClasses;
+
+    @Test public void classTokenMatchesJavaruntype() {
+        assertEquals(Types.forJavaLangReflectType(int[].class), tokenOf(int[].class));
+    }
+
+    @Test public void classTokenIsCached() {
+        assertSame(tokenOf(String.class), tokenOf(String.class));
+    }
+
+    @Test public void genericTokenMatchesJavaruntype() throws Exception {
+        Type type = genericTypeOf("maps");
+
+        assertEquals(Types.forJavaLangReflectType(type), tokenOf(type));
+    }
+
+    @Test public void genericTokenIsCachedAcrossEqualReflectedTypes() throws Exception {
+        Type first = genericTypeOf("strings");
+        Type second = genericTypeOf("strings");
+
+        assertSame(tokenOf(first), tokenOf(second));
+    }
+
+    @Test public void genericTokenMentioningClassesOfSeveralLoadersIsCached() throws Exception {
+        Type first = genericTypeOf("ownClasses");
+        Type second = genericTypeOf("ownClasses");
+
+        assertEquals(Types.forJavaLangReflectType(first), tokenOf(first));
+        assertSame(tokenOf(first), tokenOf(second));
+    }
+
+    @Test public void rawClassOfClass() {
+        assertEquals(String.class, rawClassOf(String.class));
+    }
+
+    @Test public void rawClassOfParameterizedType() throws Exception {
+        assertEquals(List.class, rawClassOf(genericTypeOf("wildcard")));
+    }
+
+    @Test public void rawClassOfGenericArrayType() throws Exception {
+        assertEquals(Map[].class, rawClassOf(genericTypeOf("maps")));
+    }
+
+    private static Type genericTypeOf(String fieldName) throws Exception {
+        return TypeTokensTest.class.getField(fieldName).getGenericType();
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.constraint;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Predicate;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.generator.RangeNarrowable;
+import com.pholser.junit.quickcheck.generator.SizeNarrowable;
+import com.pholser.junit.quickcheck.internal.Weighted;
+import com.pholser.junit.quickcheck.internal.generator.CompositeGenerator;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import ognl.Node;
+import org.junit.Test;
+
+import static java.util.Arrays.*;
+import static java.util.Collections.*;
+import static org.junit.Assert.*;
+
+public class ConstraintAnalysisTest {
+    @Test public void noExpression() {
+        ConstraintAnalysis analysis = new ConstraintAnalysis(null, int.class);
+
+        assertEquals(emptyList(), analysis.residual());
+        assertNull(analysis.predicate());
+    }
+
+    @Test public void rangeOnIntegralParameterLeavesNoResidual() {
+        ConstraintAnalysis analysis = new ConstraintAnalysis("#_ > 1000 && #_ <= 2000", int.class);
+
+        assertEquals(emptyList(), analysis.residual());
+        Predicate<Object> predicate = analysis.predicate();
+        assertFalse(predicate.test(1000));
+        assertTrue(predicate.test(1001));
+        assertTrue(predicate.test(2000));
+        assertFalse(predicate.test(2001));
+    }
+
+    @Test public void constantOnLeftOfComparison() {
+        ConstraintAnalysis analysis = new ConstraintAnalysis("-3 < #_", Long.class);
+
+        Predicate<Object> predicate = analysis.predicate();
+        assertFalse(predicate.test(-3L));
+        assertTrue(predicate.test(-2L));
+    }
+
+    @Test public void fractionalBoundOnIntegralParameter() {
+        Predicate<Object> predicate = new ConstraintAnalysis("#_ >= 2.5", int.class).predicate();
+
+        assertFalse(predicate.test(2));
+        assertTrue(predicate.test(3));
+    }
+
+    @Test public void unsatisfiableRange() {
+        Predicate<Object> predicate = new ConstraintAnalysis("#_ > 5 && #_ < 6", int.class).predicate();
+
+        assertFalse(predicate.test(5));
+        assertFalse(predicate.test(6));
+    }
+
+    @Test public void rangeOnFloatingPointParameter() {
+        Predicate<Object> predicate = new ConstraintAnalysis("#_ >= 0.5 && #_ < 1", double.class).predicate();
+
+        assertFalse(predicate.test(0.49));
+        assertTrue(predicate.test(0.5));
+        assertFalse(predicate.test(1D));
+        assertFalse(predicate.test(Double.NaN));
+    }
+
+    @Test public void unrecognizedConjunctsRemainAsResidual() {
+        ConstraintAnalysis analysis = new ConstraintAnalysis("#_ > 0 && #_ % 2 == 0", int.class);
+
+        assertEquals(1, analysis.residual().size());
+        assertTrue(analysis.split());
+        assertEquals("(#_ % 2) == 0", analysis.residual().get(0).toString());
+    }
+
+    @Test public void wholeExpressionRemainsWhenNothingRecognized() {
+        ConstraintAnalysis analysis = new ConstraintAnalysis("#_ % 2 == 0 || #_ > 10", int.class);
+
+        assertEquals(1, analysis.residual().size());
+        assertFalse(analysis.split());
+        assertNull(analysis.predicate());
+    }
+
+    @Test public void residualConjunctsAreCompiled() {
+        ConstraintAnalysis analysis = new ConstraintAnalysis("#_ > 0 && #_ % 3 == 0", int.class);
+
+        assertNotNull(((Node) analysis.residual().get(0)).getAccessor());
+    }
+
+    @Test public void wholeExpressionIsCompiled() {
+        ConstraintAnalysis analysis = new ConstraintAnalysis("#_ % 3 == 0 || #_ > 10", int.class);
+
+        assertNotNull(((Node) analysis.residual().get(0)).getAccessor());
+    }
+
+    @Test public void compiledExpressionsAreShared() {
+        ConstraintAnalysis first = new ConstraintAnalysis("#_ % 5 == 0 || #_ > 10", int.class);
+        ConstraintAnalysis second = new ConstraintAnalysis("#_ % 5 == 0 || #_ > 10", long.class);
+
+        assertSame(first.residual().get(0), second.residual().get(0));
+    }
+
+    @Test public void rangesNotRecognizedOnNonNumericParameters() {
+        ConstraintAnalysis analysis = new ConstraintAnalysis("#_ > 'm'", String.class);
+
+        assertEquals(1, analysis.residual().size());
+        assertNull(analysis.predicate());
+    }
+
+    @Test public void nonNullCheck() {
+        ConstraintAnalysis analysis = new ConstraintAnalysis("#_ != null", Object.class);
+
+        assertEquals(emptyList(), analysis.residual());
+        assertFalse(analysis.predicate().test(null));
+        assertTrue(analysis.predicate().test(""));
+    }
+
+    @Test public void sizeBoundsOnCollectionParameter() {
+        ConstraintAnalysis analysis = new ConstraintAnalysis("#_.size() >= 2 && #_.size() < 4", List.class);
+
+        assertEquals(emptyList(), analysis.residual());
+        assertFalse(analysis.predicate().test(singletonList(1)));
+        assertTrue(analysis.predicate().test(asList(1, 2, 3)));
+        assertFalse(analysis.predicate().test(asList(1, 2, 3, 4)));
+    }
+
+    @Test public void narrowingGenerators() {
+        Narrowable first = new Narrowable();
+        Narrowable second = new Narrowable();
+        CompositeGenerator composite =
+            new CompositeGenerator(asList(new Weighted<>(first, 1), new Weighted<>(second, 1)));
+
+        new ConstraintAnalysis("#_ > 1 && #_ <= 9 && #_.size() < 3", List.class).narrow(composite);
+        new ConstraintAnalysis("#_ > 1 && #_ <= 9", Integer.class).narrow(first);
+
+        assertEquals(new BigDecimal(1), first.lower);
+        assertFalse(first.lowerInclusive);
+        assertEquals(new BigDecimal(9), first.upper);
+        assertTrue(first.upperInclusive);
+        assertEquals(2, first.maxSize);
+        assertEquals(2, second.maxSize);
+        assertNull(second.lower);
+    }
+
+    public static class Narrowable extends Generator<Object> implements RangeNarrowable, SizeNarrowable {
+        BigDecimal lower;
+        boolean lowerInclusive;
+        BigDecimal upper;
+        boolean upperInclusive;
+        int maxSize = -1;
+
+        public Narrowable() {
+            super(Object.class);
+        }
+
+        @Override public Object generate(SourceOfRandomness random, GenerationStatus status) {
+            return null;
+        }
+
+        @Override public void narrowRange(
+            BigDecimal lower,
+            boolean lowerInclusive,
+            BigDecimal upper,
+            boolean upperInclusive) {
+
+            this.lower = lower;
+            this.lowerInclusive = lowerInclusive;
+            this.upper = upper;
+            this.upperInclusive = upperInclusive;
+        }
+
+        @Override public void narrowSize(int min, int max) {
+            maxSize = max;
+        }
+    }
+}
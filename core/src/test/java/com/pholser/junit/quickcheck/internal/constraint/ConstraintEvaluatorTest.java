@@ -64,6 +64,47 @@ public class ConstraintEvaluatorTest {
         evaluator = new ConstraintEvaluator("#_ !*@&#^*");
     }
 
+    @Test public void whenExpressionIsMalformedOnSecondAttempt() {
+        try {
+            new ConstraintEvaluator("#_ !*@&#^*");
+            fail();
+        } catch (EvaluationException expected) {
+        }
+
+        thrown.expect(EvaluationException.class);
+        thrown.expectMessage("Malformed");
+
+        evaluator = new ConstraintEvaluator("#_ !*@&#^*");
+    }
+
+    @Test public void whenPredicateRejectsValue() {
+        evaluator = new ConstraintEvaluator("#_ > 0", i -> (Integer) i % 2 == 0);
+        evaluator.bind(3);
+
+        assertFalse(evaluator.evaluate());
+    }
+
+    @Test public void whenPredicateAcceptsValueButExpressionDoesNot() {
+        evaluator = new ConstraintEvaluator("#_ > 0", i -> (Integer) i % 2 == 0);
+        evaluator.bind(-2);
+
+        assertFalse(evaluator.evaluate());
+    }
+
+    @Test public void whenPredicateAndExpressionAcceptValue() {
+        evaluator = new ConstraintEvaluator("#_ > 0", i -> (Integer) i % 2 == 0);
+        evaluator.bind(2);
+
+        assertTrue(evaluator.evaluate());
+    }
+
+    @Test public void whenOnlyPredicateGiven() {
+        evaluator = new ConstraintEvaluator((String) null, i -> (Integer) i % 2 == 0);
+        evaluator.bind(-2);
+
+        assertTrue(evaluator.evaluate());
+    }
+
     @Test public void whenExpressionCannotBeEvaluatedCorrectly() {
         evaluator = new ConstraintEvaluator("#_.foo == 'bar'");
         evaluator.bind(4);
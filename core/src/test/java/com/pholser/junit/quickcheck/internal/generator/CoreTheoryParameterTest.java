@@ -30,6 +30,7 @@ import com.pholser.junit.quickcheck.From;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.internal.GeometricDistribution;
 import com.pholser.junit.quickcheck.internal.ParameterContext;
+import com.pholser.junit.quickcheck.metrics.GenerationListener;
 import com.pholser.junit.quickcheck.internal.Reflection;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import com.pholser.junit.quickcheck.test.generator.TestGeneratorSource;
@@ -59,6 +60,7 @@ public abstract class CoreTheoryParameterTest {
     @Mock protected SourceOfRandomness randomForGeneratorRepo;
     @Mock protected GeometricDistribution distro;
     @Mock protected Logger log;
+    @Mock protected GenerationListener listener;
     protected Iterable<Generator<?>> source;
     protected GeneratorRepository repository;
     @Mock private ForAll quantifier;
@@ -77,7 +79,7 @@ public abstract class CoreTheoryParameterTest {
             repository.register(auxiliarySource);
 
         RandomTheoryParameterGenerator generator =
-            new RandomTheoryParameterGenerator(randomForParameterGenerator, repository, distro, log);
+            new RandomTheoryParameterGenerator(randomForParameterGenerator, repository, distro, log, listener);
 
         AnnotatedType type = annotatedType();
         ParameterContext context =
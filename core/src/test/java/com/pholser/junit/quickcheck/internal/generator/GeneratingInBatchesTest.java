@@ -0,0 +1,110 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.generator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.internal.Weighted;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static java.util.Arrays.*;
+import static java.util.Collections.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GeneratingInBatchesTest {
+    @Mock private SourceOfRandomness random;
+    @Mock private GenerationStatus status;
+
+    @Test public void defaultBatchGeneratesOneValueAtATime() {
+        Counter counter = new Counter();
+        List<Integer> values = new ArrayList<>();
+
+        counter.generate(random, status, 3, values::add);
+
+        assertEquals(asList(0, 1, 2), values);
+        assertEquals(0, counter.batches);
+    }
+
+    @Test public void compositeOfOneGeneratorHandsWholeBatchToIt() {
+        Batching batching = new Batching();
+        CompositeGenerator composite = new CompositeGenerator(singletonList(new Weighted<>(batching, 1)));
+        List<Object> values = new ArrayList<>();
+
+        composite.generate(random, status, 4, values::add);
+
+        assertEquals(asList(0, 1, 2, 3), values);
+        assertEquals(1, batching.batches);
+        verifyZeroInteractions(random);
+    }
+
+    @Test public void compositeOfSeveralGeneratorsChoosesAnewForEachValue() {
+        Batching first = new Batching();
+        Counter second = new Counter();
+        CompositeGenerator composite = new CompositeGenerator(asList(new Weighted<>(first, 1), new Weighted<>(second, 1)));
+        when(random.nextInt(2)).thenReturn(0, 1, 0);
+        List<Object> values = new ArrayList<>();
+
+        composite.generate(random, status, 3, values::add);
+
+        assertEquals(asList(0, 0, 1), values);
+        assertEquals(0, first.batches);
+    }
+
+    public static class Counter extends Generator<Integer> {
+        private int next;
+        int batches;
+
+        public Counter() {
+            super(Integer.class);
+        }
+
+        @Override public Integer generate(SourceOfRandomness random, GenerationStatus status) {
+            return next++;
+        }
+    }
+
+    public static class Batching extends Counter {
+        @Override public void generate(
+            SourceOfRandomness random,
+            GenerationStatus status,
+            int count,
+            Consumer<? super Integer> sink) {
+
+            ++batches;
+            super.generate(random, status, count, sink);
+        }
+    }
+}
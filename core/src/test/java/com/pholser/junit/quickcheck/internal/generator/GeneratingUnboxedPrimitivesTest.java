@@ -0,0 +1,146 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.generator;
+
+import com.pholser.junit.quickcheck.generator.Ctor;
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.generator.PrimitiveIntGenerator;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static java.util.Arrays.*;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GeneratingUnboxedPrimitivesTest {
+    private GeneratorRepository repo;
+    @Mock private SourceOfRandomness random;
+    @Mock private GenerationStatus status;
+
+    @Before public void beforeEach() {
+        repo = new GeneratorRepository(random);
+        repo.register(new UnboxedInts());
+
+        when(random.nextInt()).thenReturn(4, 5, 6);
+    }
+
+    @Test public void primitiveArrays() {
+        when(status.size()).thenReturn(3);
+
+        Object generated = repo.generatorFor(int[].class).generate(random, status);
+
+        assertArrayEquals(new int[] { 4, 5, 6 }, (int[]) generated);
+    }
+
+    @Test public void primitiveArraysFilledInBulk() {
+        repo = new GeneratorRepository(random);
+        repo.register(new BulkInts());
+        when(status.size()).thenReturn(4);
+
+        Object generated = repo.generatorFor(int[].class).generate(random, status);
+
+        assertArrayEquals(new int[] { 0, 1, 2, 3 }, (int[]) generated);
+    }
+
+    @Test public void primitiveConstructorParametersInDeclarationOrder() {
+        Ctor<Pair> ctor = new Ctor<>(Pair.class);
+        ctor.provideRepository(repo);
+
+        Pair generated = ctor.generate(random, status);
+
+        assertEquals(4, generated.left);
+        assertEquals(5, generated.right);
+    }
+
+    @Test public void primitiveArraysHonorOverriddenGenerate() {
+        repo = new GeneratorRepository(random);
+        repo.register(new RedefinedInts());
+        when(status.size()).thenReturn(2);
+
+        Object generated = repo.generatorFor(int[].class).generate(random, status);
+
+        assertArrayEquals(new int[] { -1, -1 }, (int[]) generated);
+    }
+
+    @Test public void primitiveConstructorParametersHonorOverriddenGenerate() {
+        repo = new GeneratorRepository(random);
+        repo.register(new RedefinedInts());
+        Ctor<Pair> ctor = new Ctor<>(Pair.class);
+        ctor.provideRepository(repo);
+
+        Pair generated = ctor.generate(random, status);
+
+        assertEquals(-1, generated.left);
+        assertEquals(-1, generated.right);
+    }
+
+    public static class Pair {
+        final int left;
+        final int right;
+
+        public Pair(int left, int right) {
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    public static class UnboxedInts extends Generator<Integer> implements PrimitiveIntGenerator {
+        @SuppressWarnings("unchecked") public UnboxedInts() {
+            super(asList(int.class, Integer.class));
+        }
+
+        @Override public Integer generate(SourceOfRandomness random, GenerationStatus status) {
+            throw new UnsupportedOperationException("should have generated unboxed");
+        }
+
+        @Override public int generateInt(SourceOfRandomness random, GenerationStatus status) {
+            return random.nextInt();
+        }
+    }
+
+    public static class BulkInts extends UnboxedInts {
+        @Override public int generateInt(SourceOfRandomness random, GenerationStatus status) {
+            throw new UnsupportedOperationException("should have generated in bulk");
+        }
+
+        @Override public void generateInts(int[] target, SourceOfRandomness random, GenerationStatus status) {
+            for (int i = 0; i < target.length; ++i)
+                target[i] = i;
+        }
+    }
+
+    public static class RedefinedInts extends UnboxedInts {
+        @Override public Integer generate(SourceOfRandomness random, GenerationStatus status) {
+            return -1;
+        }
+    }
+}
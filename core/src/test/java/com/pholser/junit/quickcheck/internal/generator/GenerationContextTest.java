@@ -30,26 +30,34 @@ import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.internal.GeometricDistribution;
 import com.pholser.junit.quickcheck.internal.ParameterContext;
+import com.pholser.junit.quickcheck.metrics.GenerationListener;
+import com.pholser.junit.quickcheck.metrics.GenerationMetrics;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.AnnotatedType;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
 
 import static java.util.Arrays.*;
+import static org.junit.Assert.*;
 import static org.junit.rules.ExpectedException.*;
+import static org.mockito.Mockito.*;
 
 @RunWith(MockitoJUnitRunner.class)
 public class GenerationContextTest {
     @Rule public final ExpectedException thrown = none();
 
     @Mock private SourceOfRandomness random;
+    @Mock private GenerationListener listener;
 
     @Test public void whenDiscardRatioExceededEvenWithSomeSuccesses() throws Exception {
         ParameterContext parameter =
@@ -60,7 +68,8 @@ public class GenerationContextTest {
             parameter,
             new GeneratorRepository(null).register(new Countdown()),
             new GeometricDistribution(),
-            random);
+            random,
+            listener);
 
         thrown.expect(GenerationContext.DiscardRatioExceededException.class);
         thrown.expectMessage(String.format(
@@ -74,9 +83,155 @@ public class GenerationContextTest {
             gen.generate(random);
     }
 
+    @Test public void whenDiscardRatioExceededGeneratingWholeSample() throws Exception {
+        ParameterContext parameter =
+            new ParameterContext("arg", annotatedType(), "declarer")
+                .annotate(annotatedElement());
+
+        GenerationContext gen = new GenerationContext(
+            parameter,
+            new GeneratorRepository(null).register(new Countdown()),
+            new GeometricDistribution(),
+            random,
+            listener);
+
+        thrown.expect(GenerationContext.DiscardRatioExceededException.class);
+
+        gen.generateSample(random, value -> {});
+    }
+
+    @Test public void generatingWholeSampleKeepsOnlyValuesMeetingConstraint() throws Exception {
+        Parameter evens = getClass().getMethod("evensHaver", int.class).getParameters()[0];
+        ParameterContext parameter =
+            new ParameterContext("arg", evens.getAnnotatedType(), "declarer")
+                .annotate(evens);
+
+        GenerationContext gen = new GenerationContext(
+            parameter,
+            new GeneratorRepository(null).register(new Countdown()),
+            new GeometricDistribution(),
+            random,
+            listener);
+
+        List<Object> sample = new ArrayList<>();
+        gen.generateSample(random, sample::add);
+
+        assertEquals(asList(10, 8, 6, 4, 2), sample);
+        assertEquals(9, gen.attempts());
+    }
+
+    @Test public void generatingInChunksStopsAtEachChunkAndAtEndOfSample() throws Exception {
+        Parameter evens = getClass().getMethod("evensHaver", int.class).getParameters()[0];
+        ParameterContext parameter =
+            new ParameterContext("arg", evens.getAnnotatedType(), "declarer")
+                .annotate(evens);
+
+        GenerationContext gen = new GenerationContext(
+            parameter,
+            new GeneratorRepository(null).register(new Countdown()),
+            new GeometricDistribution(),
+            random,
+            listener);
+
+        List<Object> first = new ArrayList<>();
+        gen.generateChunk(random, 2, first::add);
+        List<Object> rest = new ArrayList<>();
+        gen.generateChunk(random, 10, rest::add);
+
+        assertEquals(asList(10, 8), first);
+        assertEquals(asList(6, 4, 2), rest);
+        assertFalse(gen.shouldContinue());
+    }
+
+    @Test public void reportsMetricsOnceWhenSampleGenerated() throws Exception {
+        Parameter evens = getClass().getMethod("evensHaver", int.class).getParameters()[0];
+        ParameterContext parameter =
+            new ParameterContext("arg", evens.getAnnotatedType(), "declarer")
+                .annotate(evens);
+
+        GenerationContext gen = new GenerationContext(
+            parameter,
+            new GeneratorRepository(null).register(new Countdown()),
+            new GeometricDistribution(),
+            random,
+            listener);
+
+        gen.generateSample(random, value -> {});
+        gen.finish();
+
+        ArgumentCaptor<GenerationMetrics> metrics = ArgumentCaptor.forClass(GenerationMetrics.class);
+        verify(listener).generated(metrics.capture());
+        assertEquals("declarer:arg", metrics.getValue().parameterName());
+        assertEquals(5, metrics.getValue().sampleSize());
+        assertEquals(9, metrics.getValue().generated());
+        assertEquals(5, metrics.getValue().accepted());
+        assertEquals(4, metrics.getValue().discarded());
+        assertEquals(0.8, metrics.getValue().discardRatio(), 0);
+    }
+
+    @Test public void takesTimingsWhenListenerWantsThem() throws Exception {
+        when(listener.wantsTimings()).thenReturn(true);
+
+        assertTrue(metricsForEvens().evaluationNanos() > 0);
+    }
+
+    @Test public void takesNoTimingsWhenListenerDoesNotWantThem() throws Exception {
+        when(listener.wantsTimings()).thenReturn(false);
+
+        GenerationMetrics metrics = metricsForEvens();
+        assertEquals(0, metrics.generationNanos());
+        assertEquals(0, metrics.evaluationNanos());
+        assertEquals(9, metrics.generated());
+    }
+
+    @Test public void reportsMetricsWhenDiscardRatioExceeded() throws Exception {
+        ParameterContext parameter =
+            new ParameterContext("arg", annotatedType(), "declarer")
+                .annotate(annotatedElement());
+
+        GenerationContext gen = new GenerationContext(
+            parameter,
+            new GeneratorRepository(null).register(new Countdown()),
+            new GeometricDistribution(),
+            random,
+            listener);
+
+        try {
+            gen.generateSample(random, value -> {});
+            fail();
+        } catch (GenerationContext.DiscardRatioExceededException expected) {
+            ArgumentCaptor<GenerationMetrics> metrics = ArgumentCaptor.forClass(GenerationMetrics.class);
+            verify(listener).generated(metrics.capture());
+            assertEquals(10, metrics.getValue().accepted());
+            assertEquals(30, metrics.getValue().discarded());
+        }
+    }
+
+    public static void evensHaver(@ForAll(sampleSize = 5, suchThat = "#_ % 2 == 0") int x) {
+    }
+
     public static void parameterHaver(@ForAll(sampleSize = 20, discardRatio = 3, suchThat = "#_ > 0") int x) {
     }
 
+    private GenerationMetrics metricsForEvens() throws Exception {
+        Parameter evens = getClass().getMethod("evensHaver", int.class).getParameters()[0];
+        ParameterContext parameter =
+            new ParameterContext("arg", evens.getAnnotatedType(), "declarer")
+                .annotate(evens);
+
+        new GenerationContext(
+            parameter,
+            new GeneratorRepository(null).register(new Countdown()),
+            new GeometricDistribution(),
+            random,
+            listener)
+            .generateSample(random, value -> {});
+
+        ArgumentCaptor<GenerationMetrics> metrics = ArgumentCaptor.forClass(GenerationMetrics.class);
+        verify(listener).generated(metrics.capture());
+        return metrics.getValue();
+    }
+
     private AnnotatedElement annotatedElement() throws Exception {
         return parameter();
     }
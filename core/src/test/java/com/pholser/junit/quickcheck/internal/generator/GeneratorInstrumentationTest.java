@@ -0,0 +1,142 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.generator;
+
+import java.util.Random;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.internal.Weighted;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import org.junit.Before;
+import org.junit.Test;
+
+import static com.pholser.junit.quickcheck.internal.generator.GeneratorInstrumentation.Statistics.*;
+import static java.util.Arrays.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+public class GeneratorInstrumentationTest {
+    private GeneratorInstrumentation instrumentation;
+    private SourceOfRandomness random;
+
+    @Before public void beforeEach() {
+        instrumentation = new GeneratorInstrumentation();
+        random = new SourceOfRandomness(instrumentation.counting(new Random()));
+    }
+
+    @Test public void countsCallsAndDraws() {
+        Generator<?> generator = instrumentation.instrument(new ThreeDraws());
+
+        for (int i = 0; i < 5; ++i)
+            generator.generate(random, null);
+
+        GeneratorInstrumentation.Statistics statistics =
+            instrumentation.statisticsFor(ThreeDraws.class.getName());
+        assertEquals(5, statistics.calls());
+        assertEquals(15, statistics.totalDraws());
+        assertThat(statistics.totalNanos(), greaterThan(0L));
+    }
+
+    @Test public void batchedGenerationMeasuresEachValue() {
+        Generator<?> generator = instrumentation.instrument(new ThreeDraws());
+
+        generator.generate(random, null, 4, value -> {});
+
+        assertEquals(4, instrumentation.statisticsFor(ThreeDraws.class.getName()).calls());
+    }
+
+    @Test public void countingRandomRetainsSequence() {
+        Random counting = instrumentation.counting(new Random(7));
+        Random plain = new Random(7);
+
+        assertEquals(plain.nextLong(), counting.nextLong());
+        assertEquals(plain.nextInt(10), counting.nextInt(10));
+
+        counting.setSeed(11);
+        plain.setSeed(11);
+        assertEquals(plain.nextDouble(), counting.nextDouble(), 0);
+    }
+
+    @Test public void namesCompositesByTheirComponents() {
+        CompositeGenerator sole = new CompositeGenerator(asList(new Weighted<>(new ThreeDraws(), 1)));
+        CompositeGenerator mixed = new CompositeGenerator(
+            asList(new Weighted<>(new ThreeDraws(), 1), new Weighted<>(new ZilchGenerator(), 1)));
+
+        assertEquals(ThreeDraws.class.getName(), GeneratorInstrumentation.nameOf(sole));
+        assertEquals(
+            "CompositeGenerator[" + ThreeDraws.class.getName() + '|' + ZilchGenerator.class.getName() + ']',
+            GeneratorInstrumentation.nameOf(mixed));
+    }
+
+    @Test public void uninstrumentedGivesBackWrappedGenerator() {
+        ThreeDraws wrapped = new ThreeDraws();
+
+        assertSame(wrapped, InstrumentedGenerator.uninstrumented(instrumentation.instrument(wrapped)));
+        assertSame(wrapped, InstrumentedGenerator.uninstrumented(wrapped));
+    }
+
+    @Test public void latencyBucketsBoundTheirValues() {
+        for (long nanos : new long[] { 0, 1, 7, 8, 9, 15, 16, 1000, 123456789, Long.MAX_VALUE }) {
+            int bucket = bucketOf(nanos);
+            assertThat(upperBoundOf(bucket), greaterThanOrEqualTo(nanos));
+            if (bucket > 0)
+                assertThat(upperBoundOf(bucket - 1), lessThan(nanos));
+        }
+    }
+
+    @Test public void percentiles() {
+        GeneratorInstrumentation.Statistics statistics = new GeneratorInstrumentation.Statistics("x");
+        for (long i = 1; i <= 100; ++i)
+            statistics.record(i * 1000, 0, 0);
+
+        assertThat(statistics.percentileNanos(0.5), allOf(greaterThanOrEqualTo(50000L), lessThan(57000L)));
+        assertThat(statistics.percentileNanos(0.99), allOf(greaterThanOrEqualTo(99000L), lessThan(115000L)));
+    }
+
+    @Test public void reportSortsByTotalTime() {
+        instrumentation.instrument(new ThreeDraws());
+        instrumentation.statisticsFor(ThreeDraws.class.getName()).record(10, 0, 0);
+        instrumentation.instrument(new ZilchGenerator());
+        instrumentation.statisticsFor(ZilchGenerator.class.getName()).record(1000, 0, 0);
+
+        String report = instrumentation.report();
+
+        assertThat(
+            report.indexOf(ZilchGenerator.class.getName()),
+            lessThan(report.indexOf(ThreeDraws.class.getName())));
+    }
+
+    public static class ThreeDraws extends Generator<Integer> {
+        public ThreeDraws() {
+            super(Integer.class);
+        }
+
+        @Override public Integer generate(SourceOfRandomness random, GenerationStatus status) {
+            return random.nextInt() + random.nextInt() + random.nextInt();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.generator;
+
+import com.pholser.junit.quickcheck.test.generator.AnotherBoxGenerator;
+import com.pholser.junit.quickcheck.test.generator.Box;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import com.pholser.junit.quickcheck.test.generator.FooGenerator;
+import com.pholser.junit.quickcheck.test.generator.Pair;
+import com.pholser.junit.quickcheck.test.generator.PairGenerator;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+public class LoadingIndexedGeneratorsLazilyTest {
+    private ServiceLoadedGenerators generators;
+
+    @Before public void beforeEach() {
+        generators = new ServiceLoadedGenerators(getClass().getClassLoader());
+    }
+
+    @Test public void loadsOnlyUnindexedGeneratorsUpFront() {
+        assertThat(
+            generators.loaded(),
+            containsInAnyOrder(PairGenerator.class.getName(), ZilchGenerator.class.getName()));
+    }
+
+    @Test public void unindexedGeneratorsAreAvailable() {
+        assertThat(generators.generatorsFor(Pair.class), contains(instanceOf(PairGenerator.class)));
+    }
+
+    @Test public void loadsIndexedGeneratorOnFirstLookupOfOneOfItsTypes() {
+        assertThat(generators.generatorsFor(Foo.class), contains(instanceOf(FooGenerator.class)));
+
+        assertThat(generators.loaded(), hasItem(FooGenerator.class.getName()));
+        assertThat(generators.loaded(), not(hasItem(AnotherBoxGenerator.class.getName())));
+    }
+
+    @Test public void loadsIndexedGeneratorOnce() {
+        generators.generatorsFor(Box.class);
+
+        assertThat(generators.generatorsFor(Box.class), contains(instanceOf(AnotherBoxGenerator.class)));
+    }
+
+    @Test public void lookupOfSharedSupertypeLoadsAllIndexedGenerators() {
+        assertThat(
+            generators.generatorsFor(Object.class),
+            hasItems(instanceOf(AnotherBoxGenerator.class), instanceOf(FooGenerator.class)));
+        assertThat(
+            generators.loaded(),
+            hasItems(AnotherBoxGenerator.class.getName(), FooGenerator.class.getName()));
+    }
+
+    @Test public void indexedTypesGainSupertypesTheyHaveAtRuntime() {
+        ClassLoader loader = getClass().getClassLoader();
+
+        assertThat(
+            ServiceLoadedGenerators.typesAtRuntime(asList(Integer.class.getName(), "int"), loader),
+            hasItems(
+                Integer.class.getName(),
+                "int",
+                Number.class.getName(),
+                Comparable.class.getName(),
+                Object.class.getName()));
+    }
+
+    @Test public void indexedTypesMissingAtRuntimeStayAsIndexed() {
+        ClassLoader loader = getClass().getClassLoader();
+
+        assertThat(
+            ServiceLoadedGenerators.typesAtRuntime(asList("no.such.Type", "java.lang.Object"), loader),
+            contains("no.such.Type", "java.lang.Object"));
+    }
+
+    @Test public void noGeneratorsForUnlistedType() {
+        assertThat(generators.generatorsFor(String.class), empty());
+    }
+}
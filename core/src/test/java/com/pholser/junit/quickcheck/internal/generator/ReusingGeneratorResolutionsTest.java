@@ -0,0 +1,109 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.generator;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.internal.ReflectionException;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.test.generator.TestArrayListGenerator;
+import com.pholser.junit.quickcheck.test.generator.TestIntegerGenerator;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static com.pholser.junit.quickcheck.internal.generator.Generators.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ReusingGeneratorResolutionsTest {
+    private GeneratorRepository repo;
+    @Mock private SourceOfRandomness random;
+
+    @Before public void beforeEach() {
+        repo = new GeneratorRepository(random);
+        repo.register(new TestArrayListGenerator());
+        repo.register(new ZilchGenerator());
+    }
+
+    @Test public void eachLookupGivesFreshGenerators() {
+        Generator<?> first = repo.generatorFor(Serializable.class);
+        Generator<?> second = repo.generatorFor(Serializable.class);
+
+        assertThat(second, not(sameInstance(first)));
+        assertThat(componentOf(second, 0), not(sameInstance(componentOf(first, 0))));
+        assertGenerators(second, TestArrayListGenerator.class);
+    }
+
+    @Test public void registeringMoreGeneratorsAffectsLaterLookups() {
+        repo.generatorFor(Serializable.class);
+
+        List<Generator<?>> more = new ArrayList<>();
+        more.add(new TestIntegerGenerator());
+        repo.register(more);
+
+        assertGenerators(
+            repo.generatorFor(Serializable.class),
+            TestArrayListGenerator.class,
+            TestIntegerGenerator.class);
+    }
+
+    @Test public void failedLookupsAreNotRemembered() {
+        try {
+            repo.generatorFor(Number.class);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+
+        repo.register(new TestIntegerGenerator());
+
+        assertGenerators(repo.generatorFor(Number.class), TestIntegerGenerator.class);
+    }
+
+    @Test(expected = ReflectionException.class)
+    public void generatorsNeedANoArgConstructorToBeCopied() {
+        repo.register(new Unreplicable(1));
+
+        repo.generatorFor(Unreplicable.class);
+    }
+
+    public static class Unreplicable extends Generator<Unreplicable> {
+        public Unreplicable(int ignored) {
+            super(Unreplicable.class);
+        }
+
+        @Override public Unreplicable generate(SourceOfRandomness random, GenerationStatus status) {
+            return this;
+        }
+    }
+}
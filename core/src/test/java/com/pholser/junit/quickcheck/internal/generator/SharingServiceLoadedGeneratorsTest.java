@@ -0,0 +1,110 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.generator;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.test.generator.AnotherBoxGenerator;
+import com.pholser.junit.quickcheck.test.generator.Box;
+import com.pholser.junit.quickcheck.test.generator.BoxGenerator;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import com.pholser.junit.quickcheck.test.generator.FooGenerator;
+import com.pholser.junit.quickcheck.test.generator.TestIntegerGenerator;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+
+import static com.pholser.junit.quickcheck.internal.generator.Generators.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SharingServiceLoadedGeneratorsTest {
+    @Mock private SourceOfRandomness random;
+
+    @Test public void bringsInServiceLoadedGenerators() {
+        GeneratorRepository repo = GeneratorRepository.withServiceLoadedGenerators(random);
+
+        assertGenerators(repo.generatorFor(Foo.class), FooGenerator.class);
+    }
+
+    @Test public void registrationsDoNotLeakIntoOtherRepositories() {
+        GeneratorRepository first = GeneratorRepository.withServiceLoadedGenerators(random);
+        first.register(new BoxGenerator());
+        first.register(new TestIntegerGenerator());
+
+        GeneratorRepository second = GeneratorRepository.withServiceLoadedGenerators(random);
+
+        assertGenerators(first.generatorFor(Box.class), AnotherBoxGenerator.class, BoxGenerator.class);
+        assertGenerators(first.generatorFor(Integer.class), TestIntegerGenerator.class);
+        assertGenerators(second.generatorFor(Box.class), AnotherBoxGenerator.class);
+        try {
+            second.generatorFor(Integer.class);
+            fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
+
+    @Test public void eachLookupGivesFreshGenerators() {
+        Generator<?> first = GeneratorRepository.withServiceLoadedGenerators(random).generatorFor(Foo.class);
+        Generator<?> second = GeneratorRepository.withServiceLoadedGenerators(random).generatorFor(Foo.class);
+
+        assertThat(componentOf(second, 0), not(sameInstance(componentOf(first, 0))));
+    }
+
+    @Test public void sharesOneRegistryPerClassLoader() throws Exception {
+        ClassLoader own = getClass().getClassLoader();
+
+        try (URLClassLoader other = new URLClassLoader(new URL[0], own)) {
+            assertSame(ServiceLoadedGenerators.sharedBy(own), ServiceLoadedGenerators.sharedBy(own));
+            assertNotSame(ServiceLoadedGenerators.sharedBy(own), ServiceLoadedGenerators.sharedBy(other));
+        }
+    }
+
+    @Test public void concurrentLookups() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Callable<Generator<?>>> lookups = new ArrayList<>();
+        for (int i = 0; i < 100; ++i)
+            lookups.add(() -> GeneratorRepository.withServiceLoadedGenerators(random).generatorFor(Box.class));
+
+        try {
+            for (Future<Generator<?>> each : pool.invokeAll(lookups))
+                assertGenerators(each.get(), AnotherBoxGenerator.class);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
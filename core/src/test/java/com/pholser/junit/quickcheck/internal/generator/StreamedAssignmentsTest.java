@@ -0,0 +1,127 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.internal.generator;
+
+import com.pholser.junit.quickcheck.ForAll;
+import com.pholser.junit.quickcheck.internal.GeometricDistribution;
+import com.pholser.junit.quickcheck.internal.ParameterContext;
+import com.pholser.junit.quickcheck.internal.generator.GenerationContextTest.Countdown;
+import com.pholser.junit.quickcheck.metrics.GenerationListener;
+import com.pholser.junit.quickcheck.metrics.GenerationMetrics;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.contrib.theories.PotentialAssignment;
+import org.junit.rules.ExpectedException;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.runners.MockitoJUnitRunner;
+import org.slf4j.Logger;
+
+import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.*;
+import static org.junit.Assert.*;
+import static org.junit.rules.ExpectedException.*;
+import static org.mockito.Mockito.*;
+
+@RunWith(MockitoJUnitRunner.class)
+public class StreamedAssignmentsTest {
+    @Rule public final ExpectedException thrown = none();
+
+    @Mock private SourceOfRandomness random;
+    @Mock private GenerationListener listener;
+    @Mock private Logger log;
+    private StreamedAssignments assignments;
+
+    @Before public void beforeEach() throws Exception {
+        Parameter evens = getClass().getMethod("evensHaver", int.class).getParameters()[0];
+        ParameterContext parameter =
+            new ParameterContext("arg", evens.getAnnotatedType(), "declarer")
+                .annotate(evens);
+
+        assignments = new StreamedAssignments(
+            parameter,
+            new RandomTheoryParameterGenerator(
+                random,
+                new GeneratorRepository(null).register(new Countdown()),
+                new GeometricDistribution(),
+                log,
+                listener));
+    }
+
+    @Test public void sizeAgreesWithIterationDespiteDiscards() throws Exception {
+        List<Object> values = new ArrayList<>();
+        for (PotentialAssignment each : assignments)
+            values.add(each.getValue());
+
+        assertEquals(asList(10, 8, 6, 4, 2), values);
+        assertEquals(values.size(), assignments.size());
+    }
+
+    @Test public void lookingUpByIndex() throws Exception {
+        assertEquals(6, assignments.get(2).getValue());
+        assertEquals(10, assignments.get(0).getValue());
+        assertEquals(2, assignments.get(4).getValue());
+    }
+
+    @Test public void traversingAgainGeneratesTheSameValuesAfresh() throws Exception {
+        List<Object> first = new ArrayList<>();
+        for (PotentialAssignment each : assignments)
+            first.add(each.getValue());
+        List<Object> second = new ArrayList<>();
+        for (PotentialAssignment each : assignments)
+            second.add(each.getValue());
+
+        assertEquals(first, second);
+        verify(listener, times(2)).generated(any(GenerationMetrics.class));
+    }
+
+    @Test public void lookingUpByIndexAgainDoesNotGenerateAgain() {
+        PotentialAssignment first = assignments.get(3);
+
+        assertSame(first, assignments.get(3));
+        verify(listener, times(1)).generated(any(GenerationMetrics.class));
+    }
+
+    @Test public void lookingUpPastTheEnd() {
+        thrown.expect(IndexOutOfBoundsException.class);
+
+        assignments.get(5);
+    }
+
+    @Test public void lookingUpNegativeIndex() {
+        thrown.expect(IndexOutOfBoundsException.class);
+
+        assignments.get(-1);
+    }
+
+    public static void evensHaver(@ForAll(sampleSize = 5, suchThat = "#_ % 2 == 0") int x) {
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class JsonGenerationListenerTest {
+    @Test public void rendersMetricsAsJsonObject() {
+        GenerationMetrics metrics = new GenerationMetrics("a.B.c:\"x\"\n", 10, 10, 5, 1000, 2000);
+
+        assertEquals(
+            "{\"parameter\":\"a.B.c:\\\"x\\\"\\u000a\",\"sampleSize\":10,\"generated\":15,\"accepted\":10"
+                + ",\"discarded\":5,\"discardRatio\":0.5,\"generationNanos\":1000,\"evaluationNanos\":2000}",
+            JsonGenerationListener.toJson(metrics));
+    }
+
+    @Test public void infiniteDiscardRatioRendersAsNull() {
+        GenerationMetrics metrics = new GenerationMetrics("p", 10, 0, 5, 0, 0);
+
+        String json = JsonGenerationListener.toJson(metrics);
+
+        assertTrue(json, json.contains("\"discardRatio\":null"));
+    }
+
+    @Test public void noDiscards() {
+        assertEquals(0, new GenerationMetrics("p", 10, 10, 0, 0, 0).discardRatio(), 0);
+    }
+}
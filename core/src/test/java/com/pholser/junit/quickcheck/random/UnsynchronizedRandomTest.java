@@ -0,0 +1,106 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.random;
+
+import java.util.SplittableRandom;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+public class UnsynchronizedRandomTest {
+    @Test public void splitMix64AgreesWithJDKSplittableRandom() {
+        SplitMix64Random random = new SplitMix64Random(-3L);
+        SplittableRandom jdk = new SplittableRandom(-3L);
+
+        for (int i = 0; i < 100; ++i)
+            assertEquals(jdk.nextLong(), random.nextLong());
+    }
+
+    @Test public void splitMix64ReseedingRestartsSequence() {
+        assertReseedingRestartsSequence(new SplitMix64Random());
+    }
+
+    @Test public void xoroshiroReseedingRestartsSequence() {
+        assertReseedingRestartsSequence(new Xoroshiro128PlusPlusRandom());
+    }
+
+    @Test public void splitMix64SourceOfRandomnessReproducesValuesFromSeed() {
+        assertSeedReproducesValues(new SourceOfRandomness(new SplitMix64Random()));
+    }
+
+    @Test public void xoroshiroSourceOfRandomnessReproducesValuesFromSeed() {
+        assertSeedReproducesValues(new SourceOfRandomness(new Xoroshiro128PlusPlusRandom()));
+    }
+
+    @Test public void fractionalValuesInUnitInterval() {
+        Xoroshiro128PlusPlusRandom random = new Xoroshiro128PlusPlusRandom(1L);
+
+        for (int i = 0; i < 10000; ++i) {
+            double d = random.nextDouble();
+            assertThat(d, greaterThanOrEqualTo(0D));
+            assertThat(d, lessThan(1D));
+
+            float f = random.nextFloat();
+            assertThat(f, greaterThanOrEqualTo(0F));
+            assertThat(f, lessThan(1F));
+        }
+    }
+
+    @Test public void boundedValuesInRange() {
+        SplitMix64Random random = new SplitMix64Random(1L);
+
+        for (int i = 0; i < 10000; ++i) {
+            int n = random.nextInt(7);
+            assertThat(n, greaterThanOrEqualTo(0));
+            assertThat(n, lessThan(7));
+        }
+    }
+
+    private void assertReseedingRestartsSequence(UnsynchronizedRandom random) {
+        random.setSeed(42L);
+        long firstLong = random.nextLong();
+        double firstGaussian = random.nextGaussian();
+
+        random.setSeed(42L);
+
+        assertEquals(firstLong, random.nextLong());
+        assertEquals(firstGaussian, random.nextGaussian(), 0D);
+    }
+
+    private void assertSeedReproducesValues(SourceOfRandomness source) {
+        source.setSeed(5L);
+        long first = source.nextLong(-1000L, 1000L);
+        byte[] firstBytes = source.nextBytes(9);
+
+        source.setSeed(5L);
+
+        assertEquals(5L, source.seed());
+        assertEquals(first, source.nextLong(-1000L, 1000L));
+        assertArrayEquals(firstBytes, source.nextBytes(9));
+    }
+}
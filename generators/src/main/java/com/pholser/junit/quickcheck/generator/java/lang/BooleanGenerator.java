@@ -25,8 +25,11 @@
 
 package com.pholser.junit.quickcheck.generator.java.lang;
 
+import java.util.function.Consumer;
+
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.generator.PrimitiveBooleanGenerator;
 import com.pholser.junit.quickcheck.generator.ValuesOf;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 
@@ -35,7 +38,7 @@ import static java.util.Arrays.*;
 /**
  * Produces values for theory parameters of type {@code boolean} or {@link Boolean}.
  */
-public class BooleanGenerator extends Generator<Boolean> {
+public class BooleanGenerator extends Generator<Boolean> implements PrimitiveBooleanGenerator {
     private ValuesOf turnOffRandomness;
 
     @SuppressWarnings("unchecked") public BooleanGenerator() {
@@ -55,6 +58,20 @@ public class BooleanGenerator extends Generator<Boolean> {
     }
 
     @Override public Boolean generate(SourceOfRandomness random, GenerationStatus status) {
+        return generateBoolean(random, status);
+    }
+
+    @Override public void generate(
+        SourceOfRandomness random,
+        GenerationStatus status,
+        int count,
+        Consumer<? super Boolean> sink) {
+
+        for (int i = 0; i < count; ++i)
+            sink.accept(generateBoolean(random, status));
+    }
+
+    @Override public boolean generateBoolean(SourceOfRandomness random, GenerationStatus status) {
         return turnOffRandomness == null ? random.nextBoolean() : status.attempts() % 2 != 0;
     }
 }
@@ -25,17 +25,23 @@
 
 package com.pholser.junit.quickcheck.generator.java.lang;
 
+import static com.pholser.junit.quickcheck.internal.Ranges.*;
 import static java.util.Arrays.*;
 
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.generator.InRange;
+import com.pholser.junit.quickcheck.generator.PrimitiveByteGenerator;
+import com.pholser.junit.quickcheck.generator.RangeNarrowable;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 
 /**
  * Produces values for theory parameters of type {@code byte} or {@link Byte}.
  */
-public class ByteGenerator extends Generator<Byte> {
+public class ByteGenerator extends Generator<Byte> implements RangeNarrowable, PrimitiveByteGenerator {
     private byte min = Byte.MIN_VALUE;
     private byte max = Byte.MAX_VALUE;
 
@@ -56,7 +62,42 @@ public class ByteGenerator extends Generator<Byte> {
             max = Byte.parseByte(range.max());
     }
 
+    @Override public void narrowRange(
+        BigDecimal lower,
+        boolean lowerInclusive,
+        BigDecimal upper,
+        boolean upperInclusive) {
+
+        long narrowedMin = narrowedMin(min, lower, lowerInclusive);
+        long narrowedMax = narrowedMax(max, upper, upperInclusive);
+        if (narrowedMin <= narrowedMax) {
+            min = (byte) narrowedMin;
+            max = (byte) narrowedMax;
+        }
+    }
+
     @Override public Byte generate(SourceOfRandomness random, GenerationStatus status) {
+        return generateByte(random, status);
+    }
+
+    @Override public void generate(
+        SourceOfRandomness random,
+        GenerationStatus status,
+        int count,
+        Consumer<? super Byte> sink) {
+
+        for (int i = 0; i < count; ++i)
+            sink.accept(generateByte(random, status));
+    }
+
+    @Override public byte generateByte(SourceOfRandomness random, GenerationStatus status) {
         return random.nextByte(min, max);
     }
+
+    @Override public void generateBytes(byte[] target, SourceOfRandomness random, GenerationStatus status) {
+        if (min == Byte.MIN_VALUE && max == Byte.MAX_VALUE)
+            random.nextBytes(target);
+        else
+            PrimitiveByteGenerator.super.generateBytes(target, random, status);
+    }
 }
@@ -27,15 +27,18 @@ package com.pholser.junit.quickcheck.generator.java.lang;
 
 import static java.util.Arrays.*;
 
+import java.util.function.Consumer;
+
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.generator.InRange;
+import com.pholser.junit.quickcheck.generator.PrimitiveCharGenerator;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 
 /**
  * Produces values for theory parameters of type {@code char} or {@link Character}.
  */
-public class CharacterGenerator extends Generator<Character> {
+public class CharacterGenerator extends Generator<Character> implements PrimitiveCharGenerator {
     private char min = Character.MIN_VALUE;
     private char max = Character.MAX_VALUE;
 
@@ -57,6 +60,20 @@ public class CharacterGenerator extends Generator<Character> {
     }
 
     @Override public Character generate(SourceOfRandomness random, GenerationStatus status) {
+        return generateChar(random, status);
+    }
+
+    @Override public void generate(
+        SourceOfRandomness random,
+        GenerationStatus status,
+        int count,
+        Consumer<? super Character> sink) {
+
+        for (int i = 0; i < count; ++i)
+            sink.accept(generateChar(random, status));
+    }
+
+    @Override public char generateChar(SourceOfRandomness random, GenerationStatus status) {
         return random.nextChar(min, max);
     }
 }
@@ -27,17 +27,23 @@ package com.pholser.junit.quickcheck.generator.java.lang;
 
 import static java.util.Arrays.*;
 
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.generator.InRange;
+import com.pholser.junit.quickcheck.generator.PrimitiveDoubleGenerator;
+import com.pholser.junit.quickcheck.generator.RangeNarrowable;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 
 /**
  * Produces values for theory parameters of type {@code double} or {@link Double}.
  */
-public class DoubleGenerator extends Generator<Double> {
+public class DoubleGenerator extends Generator<Double> implements RangeNarrowable, PrimitiveDoubleGenerator {
     private double min = 0;
     private double max = 1;
+    private boolean configured;
 
     @SuppressWarnings("unchecked") public DoubleGenerator() {
         super(asList(double.class, Double.class));
@@ -50,13 +56,86 @@ public class DoubleGenerator extends Generator<Double> {
      * @param range annotation that gives the range's constraints
      */
     public void configure(InRange range) {
+        configured = true;
         if (!range.min().isEmpty())
             min = Double.parseDouble(range.min());
         if (!range.max().isEmpty())
             max = Double.parseDouble(range.max());
     }
 
+    /**
+     * Confines generated values to the given bounds, which come from a theory parameter's constraint expression.
+     * Since the upper end of this generator's range is exclusive, an inclusive upper bound is widened to the next
+     * {@code double} value.
+     *
+     * <p>A range configured with {@link InRange} is intersected with the bounds, and left alone if they do not
+     * overlap it. The default range, though, is only a default: each given bound replaces the end it bounds. An end
+     * with no bound stays put, unless the range would then be empty; then it moves to one default range's width
+     * beyond the given bound.</p>
+     *
+     * @param lower lower bound of the values, or {@code null} if there is none
+     * @param lowerInclusive whether values may equal {@code lower}
+     * @param upper upper bound of the values, or {@code null} if there is none
+     * @param upperInclusive whether values may equal {@code upper}
+     */
+    @Override public void narrowRange(
+        BigDecimal lower,
+        boolean lowerInclusive,
+        BigDecimal upper,
+        boolean upperInclusive) {
+
+        double least = lower == null
+            ? Double.NEGATIVE_INFINITY
+            : lowerInclusive ? lower.doubleValue() : Math.nextUp(lower.doubleValue());
+        double greatest = upper == null
+            ? Double.POSITIVE_INFINITY
+            : upperInclusive ? Math.nextUp(upper.doubleValue()) : upper.doubleValue();
+
+        if (configured)
+            intersect(least, greatest);
+        else
+            replaceDefault(least, greatest);
+    }
+
+    private void intersect(double least, double greatest) {
+        double narrowedMin = Math.max(min, least);
+        double narrowedMax = Math.min(max, greatest);
+        if (narrowedMin < narrowedMax) {
+            min = narrowedMin;
+            max = narrowedMax;
+        }
+    }
+
+    private void replaceDefault(double least, double greatest) {
+        double width = max - min;
+        double newMin = least;
+        double newMax = greatest;
+        if (least == Double.NEGATIVE_INFINITY)
+            newMin = min < greatest ? min : greatest - width;
+        if (greatest == Double.POSITIVE_INFINITY)
+            newMax = max > least ? max : least + width;
+
+        if (newMin < newMax) {
+            min = newMin;
+            max = newMax;
+        }
+    }
+
     @Override public Double generate(SourceOfRandomness random, GenerationStatus status) {
+        return generateDouble(random, status);
+    }
+
+    @Override public void generate(
+        SourceOfRandomness random,
+        GenerationStatus status,
+        int count,
+        Consumer<? super Double> sink) {
+
+        for (int i = 0; i < count; ++i)
+            sink.accept(generateDouble(random, status));
+    }
+
+    @Override public double generateDouble(SourceOfRandomness random, GenerationStatus status) {
         return random.nextDouble(min, max);
     }
 }
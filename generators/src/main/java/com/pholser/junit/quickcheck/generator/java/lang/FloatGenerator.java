@@ -27,17 +27,23 @@ package com.pholser.junit.quickcheck.generator.java.lang;
 
 import static java.util.Arrays.*;
 
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.generator.InRange;
+import com.pholser.junit.quickcheck.generator.PrimitiveFloatGenerator;
+import com.pholser.junit.quickcheck.generator.RangeNarrowable;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 
 /**
  * Produces values for theory parameters of type {@code float} or {@link Float}.
  */
-public class FloatGenerator extends Generator<Float> {
+public class FloatGenerator extends Generator<Float> implements RangeNarrowable, PrimitiveFloatGenerator {
     private float min = 0F;
     private float max = 1F;
+    private boolean configured;
 
     @SuppressWarnings("unchecked") public FloatGenerator() {
         super(asList(float.class, Float.class));
@@ -50,13 +56,86 @@ public class FloatGenerator extends Generator<Float> {
      * @param range annotation that gives the range's constraints
      */
     public void configure(InRange range) {
+        configured = true;
         if (!range.min().isEmpty())
             min = Float.parseFloat(range.min());
         if (!range.max().isEmpty())
             max = Float.parseFloat(range.max());
     }
 
+    /**
+     * Confines generated values to the given bounds, which come from a theory parameter's constraint expression.
+     * Since the upper end of this generator's range is exclusive, an inclusive upper bound is widened to the next
+     * {@code float} value.
+     *
+     * <p>A range configured with {@link InRange} is intersected with the bounds, and left alone if they do not
+     * overlap it. The default range, though, is only a default: each given bound replaces the end it bounds. An end
+     * with no bound stays put, unless the range would then be empty; then it moves to one default range's width
+     * beyond the given bound.</p>
+     *
+     * @param lower lower bound of the values, or {@code null} if there is none
+     * @param lowerInclusive whether values may equal {@code lower}
+     * @param upper upper bound of the values, or {@code null} if there is none
+     * @param upperInclusive whether values may equal {@code upper}
+     */
+    @Override public void narrowRange(
+        BigDecimal lower,
+        boolean lowerInclusive,
+        BigDecimal upper,
+        boolean upperInclusive) {
+
+        float least = lower == null
+            ? Float.NEGATIVE_INFINITY
+            : lowerInclusive ? lower.floatValue() : Math.nextUp(lower.floatValue());
+        float greatest = upper == null
+            ? Float.POSITIVE_INFINITY
+            : upperInclusive ? Math.nextUp(upper.floatValue()) : upper.floatValue();
+
+        if (configured)
+            intersect(least, greatest);
+        else
+            replaceDefault(least, greatest);
+    }
+
+    private void intersect(float least, float greatest) {
+        float narrowedMin = Math.max(min, least);
+        float narrowedMax = Math.min(max, greatest);
+        if (narrowedMin < narrowedMax) {
+            min = narrowedMin;
+            max = narrowedMax;
+        }
+    }
+
+    private void replaceDefault(float least, float greatest) {
+        float width = max - min;
+        float newMin = least;
+        float newMax = greatest;
+        if (least == Float.NEGATIVE_INFINITY)
+            newMin = min < greatest ? min : greatest - width;
+        if (greatest == Float.POSITIVE_INFINITY)
+            newMax = max > least ? max : least + width;
+
+        if (newMin < newMax) {
+            min = newMin;
+            max = newMax;
+        }
+    }
+
     @Override public Float generate(SourceOfRandomness random, GenerationStatus status) {
+        return generateFloat(random, status);
+    }
+
+    @Override public void generate(
+        SourceOfRandomness random,
+        GenerationStatus status,
+        int count,
+        Consumer<? super Float> sink) {
+
+        for (int i = 0; i < count; ++i)
+            sink.accept(generateFloat(random, status));
+    }
+
+    @Override public float generateFloat(SourceOfRandomness random, GenerationStatus status) {
         return random.nextFloat(min, max);
     }
 }
@@ -25,18 +25,24 @@
 
 package com.pholser.junit.quickcheck.generator.java.lang;
 
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.generator.InRange;
+import com.pholser.junit.quickcheck.generator.PrimitiveIntGenerator;
+import com.pholser.junit.quickcheck.generator.RangeNarrowable;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 
+import static com.pholser.junit.quickcheck.internal.Ranges.*;
 import static java.lang.Integer.*;
 import static java.util.Arrays.*;
 
 /**
  * Produces values for theory parameters of type {@code int} or {@link Integer}.
  */
-public class IntegerGenerator extends Generator<Integer> {
+public class IntegerGenerator extends Generator<Integer> implements RangeNarrowable, PrimitiveIntGenerator {
     private int min = MIN_VALUE;
     private int max = MAX_VALUE;
 
@@ -57,7 +63,35 @@ public class IntegerGenerator extends Generator<Integer> {
             max = Integer.parseInt(range.max());
     }
 
+    @Override public void narrowRange(
+        BigDecimal lower,
+        boolean lowerInclusive,
+        BigDecimal upper,
+        boolean upperInclusive) {
+
+        long narrowedMin = narrowedMin(min, lower, lowerInclusive);
+        long narrowedMax = narrowedMax(max, upper, upperInclusive);
+        if (narrowedMin <= narrowedMax) {
+            min = (int) narrowedMin;
+            max = (int) narrowedMax;
+        }
+    }
+
     @Override public Integer generate(SourceOfRandomness random, GenerationStatus status) {
+        return generateInt(random, status);
+    }
+
+    @Override public void generate(
+        SourceOfRandomness random,
+        GenerationStatus status,
+        int count,
+        Consumer<? super Integer> sink) {
+
+        for (int i = 0; i < count; ++i)
+            sink.accept(generateInt(random, status));
+    }
+
+    @Override public int generateInt(SourceOfRandomness random, GenerationStatus status) {
         return random.nextInt(min, max);
     }
 }
@@ -25,17 +25,23 @@
 
 package com.pholser.junit.quickcheck.generator.java.lang;
 
+import static com.pholser.junit.quickcheck.internal.Ranges.*;
 import static java.util.Arrays.*;
 
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.generator.InRange;
+import com.pholser.junit.quickcheck.generator.PrimitiveLongGenerator;
+import com.pholser.junit.quickcheck.generator.RangeNarrowable;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 
 /**
  * Produces values for theory parameters of type {@code long} or {@link Long}.
  */
-public class LongGenerator extends Generator<Long> {
+public class LongGenerator extends Generator<Long> implements RangeNarrowable, PrimitiveLongGenerator {
     private long min = Long.MIN_VALUE;
     private long max = Long.MAX_VALUE;
 
@@ -56,7 +62,35 @@ public class LongGenerator extends Generator<Long> {
             max = Long.parseLong(range.max());
     }
 
+    @Override public void narrowRange(
+        BigDecimal lower,
+        boolean lowerInclusive,
+        BigDecimal upper,
+        boolean upperInclusive) {
+
+        long narrowedMin = narrowedMin(min, lower, lowerInclusive);
+        long narrowedMax = narrowedMax(max, upper, upperInclusive);
+        if (narrowedMin <= narrowedMax) {
+            min = narrowedMin;
+            max = narrowedMax;
+        }
+    }
+
     @Override public Long generate(SourceOfRandomness random, GenerationStatus status) {
+        return generateLong(random, status);
+    }
+
+    @Override public void generate(
+        SourceOfRandomness random,
+        GenerationStatus status,
+        int count,
+        Consumer<? super Long> sink) {
+
+        for (int i = 0; i < count; ++i)
+            sink.accept(generateLong(random, status));
+    }
+
+    @Override public long generateLong(SourceOfRandomness random, GenerationStatus status) {
         return random.nextLong(min, max);
     }
 }
@@ -25,17 +25,23 @@
 
 package com.pholser.junit.quickcheck.generator.java.lang;
 
+import static com.pholser.junit.quickcheck.internal.Ranges.*;
 import static java.util.Arrays.*;
 
+import java.math.BigDecimal;
+import java.util.function.Consumer;
+
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.generator.InRange;
+import com.pholser.junit.quickcheck.generator.PrimitiveShortGenerator;
+import com.pholser.junit.quickcheck.generator.RangeNarrowable;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 
 /**
  * Produces values for theory parameters of type {@code short} or {@link Short}.
  */
-public class ShortGenerator extends Generator<Short> {
+public class ShortGenerator extends Generator<Short> implements RangeNarrowable, PrimitiveShortGenerator {
     private short min = Short.MIN_VALUE;
     private short max = Short.MAX_VALUE;
 
@@ -56,7 +62,35 @@ public class ShortGenerator extends Generator<Short> {
             max = Short.parseShort(range.max());
     }
 
+    @Override public void narrowRange(
+        BigDecimal lower,
+        boolean lowerInclusive,
+        BigDecimal upper,
+        boolean upperInclusive) {
+
+        long narrowedMin = narrowedMin(min, lower, lowerInclusive);
+        long narrowedMax = narrowedMax(max, upper, upperInclusive);
+        if (narrowedMin <= narrowedMax) {
+            min = (short) narrowedMin;
+            max = (short) narrowedMax;
+        }
+    }
+
     @Override public Short generate(SourceOfRandomness random, GenerationStatus status) {
+        return generateShort(random, status);
+    }
+
+    @Override public void generate(
+        SourceOfRandomness random,
+        GenerationStatus status,
+        int count,
+        Consumer<? super Short> sink) {
+
+        for (int i = 0; i < count; ++i)
+            sink.accept(generateShort(random, status));
+    }
+
+    @Override public short generateShort(SourceOfRandomness random, GenerationStatus status) {
         return random.nextShort(min, max);
     }
 }
@@ -25,29 +25,58 @@
 
 package com.pholser.junit.quickcheck.generator.java.lang.strings;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.CharsetEncoder;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.*;
 
 /**
  * Maps ordinal values to corresponding Unicode code points in a {@link java.nio.charset.Charset}.
  */
 public class CodePoints {
-    private static final Map<Charset, CodePoints> ENCODABLES = new HashMap<>();
+    static final String PRECOMPUTED_RESOURCE = "code-points.bin";
+    static final Charset[] PRECOMPUTED_CHARSETS = { US_ASCII, ISO_8859_1, UTF_8, UTF_16BE, UTF_16LE, UTF_16 };
 
-    private final List<CodePointRange> ranges;
+    private static final ConcurrentMap<Charset, CodePoints> ENCODABLES = new ConcurrentHashMap<>();
+
+    // Range i covers code points lows[i] to highs[i]; offsets[i] is the count of code points in ranges before it.
+    private int[] lows;
+    private int[] highs;
+    private int[] offsets;
+    private int rangeCount;
+    private int size;
 
     CodePoints() {
-        ranges = new ArrayList<>();
+        lows = new int[8];
+        highs = new int[8];
+        offsets = new int[8];
     }
 
     void add(CodePointRange range) {
-        ranges.add(range);
+        if (rangeCount == lows.length) {
+            lows = Arrays.copyOf(lows, 2 * rangeCount);
+            highs = Arrays.copyOf(highs, 2 * rangeCount);
+            offsets = Arrays.copyOf(offsets, 2 * rangeCount);
+        }
+
+        lows[rangeCount] = range.low;
+        highs[rangeCount] = range.high;
+        offsets[rangeCount] = range.previousCount;
+        ++rangeCount;
+        size = range.previousCount + range.size();
     }
 
     /**
@@ -58,36 +87,19 @@ public class CodePoints {
      * @throws IndexOutOfBoundsException if there is no such code point
      */
     public int at(int index) {
-        if (index < 0)
-            throw new IndexOutOfBoundsException("illegal negative index: " + index);
-
-        int min = 0;
-        int max = ranges.size() - 1;
-
-        while (min <= max) {
-            int midpoint = min + ((max - min) / 2);
-            CodePointRange current = ranges.get(midpoint);
-
-            if (index >= current.previousCount && index < current.previousCount + current.size())
-                return current.low + index - current.previousCount;
-            else if (index < current.previousCount)
-                max = midpoint - 1;
-            else
-                min = midpoint + 1;
-        }
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException(String.valueOf(index));
 
-        throw new IndexOutOfBoundsException(String.valueOf(index));
+        int found = Arrays.binarySearch(offsets, 0, rangeCount, index);
+        int range = found >= 0 ? found : -found - 2;
+        return lows[range] + index - offsets[range];
     }
 
     /**
      * @return how many code points are in this code point set
      */
     public int size() {
-        if (ranges.isEmpty())
-            return 0;
-
-        CodePointRange last = ranges.get(ranges.size() - 1);
-        return last.previousCount + last.size();
+        return size;
     }
 
     /**
@@ -97,36 +109,41 @@ public class CodePoints {
      * @return the set of code points in the charset
      */
     public static CodePoints forCharset(Charset c) {
-        if (ENCODABLES.containsKey(c))
-            return ENCODABLES.get(c);
-
-        CodePoints points = load(c);
-        ENCODABLES.put(c, points);
-        return points;
+        return ENCODABLES.computeIfAbsent(c, CodePoints::load);
     }
 
     private static CodePoints load(Charset c) {
         if (!c.canEncode())
             throw new IllegalArgumentException("Charset " + c.name() + " does not support encoding");
 
-        return encodableCodePoints(c.newEncoder());
+        CodePoints precomputed = Precomputed.TABLES.get(c.name());
+        return precomputed != null ? precomputed : encodableCodePoints(c.newEncoder());
     }
 
-    private static CodePoints encodableCodePoints(CharsetEncoder encoder) {
+    static CodePoints encodableCodePoints(CharsetEncoder encoder) {
         CodePoints points = new CodePoints();
 
         int start = 0;
         boolean inRange = false;
         int current = 0;
         int previousCount = 0;
-        int[] buffer = new int[1];
+        char[] pair = new char[2];
+        CharBuffer supplementary = CharBuffer.wrap(pair);
 
         for (; current <= Character.MAX_CODE_POINT; ++current) {
             encoder.reset();
-            buffer[0] = current;
 
-            String s = new String(buffer, 0, 1);
-            if (encoder.canEncode(s)) {
+            // Encoders for most charsets answer for a single char without allocating.
+            boolean encodable;
+            if (Character.isBmpCodePoint(current))
+                encodable = encoder.canEncode((char) current);
+            else {
+                Character.toChars(current, pair, 0);
+                supplementary.clear();
+                encodable = encoder.canEncode(supplementary);
+            }
+
+            if (encodable) {
                 if (!inRange) {
                     inRange = true;
                     start = current;
@@ -145,6 +162,63 @@ public class CodePoints {
         return points;
     }
 
+    /*
+     * Writes the code point tables of the given charsets in the form of PRECOMPUTED_RESOURCE: for each charset, its
+     * canonical name, its number of ranges, and the low and high code point of each range.
+     */
+    static void writeTables(DataOutputStream out, Charset... charsets) throws IOException {
+        for (Charset each : charsets) {
+            CodePoints points = encodableCodePoints(each.newEncoder());
+
+            out.writeUTF(each.name());
+            out.writeInt(points.rangeCount);
+            for (int i = 0; i < points.rangeCount; ++i) {
+                out.writeInt(points.lows[i]);
+                out.writeInt(points.highs[i]);
+            }
+        }
+    }
+
+    static Map<String, CodePoints> readTables(InputStream resource) throws IOException {
+        Map<String, CodePoints> tables = new HashMap<>();
+
+        try (DataInputStream in = new DataInputStream(resource)) {
+            while (true) {
+                String name;
+                try {
+                    name = in.readUTF();
+                } catch (EOFException done) {
+                    return tables;
+                }
+
+                CodePoints points = new CodePoints();
+                int previousCount = 0;
+                for (int i = in.readInt(); i > 0; --i) {
+                    CodePointRange range = new CodePointRange(in.readInt(), in.readInt(), previousCount);
+                    points.add(range);
+                    previousCount += range.size();
+                }
+                tables.put(name, points);
+            }
+        }
+    }
+
+    /*
+     * Tables for the charsets every Java platform supports, which would otherwise each cost a scan of every code
+     * point on first use. Their contents do not vary by platform.
+     */
+    private static final class Precomputed {
+        static final Map<String, CodePoints> TABLES;
+
+        static {
+            try (InputStream in = CodePoints.class.getResourceAsStream(PRECOMPUTED_RESOURCE)) {
+                TABLES = in == null ? new HashMap<>() : readTables(in);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
     static class CodePointRange {
         final int low;
         final int high;
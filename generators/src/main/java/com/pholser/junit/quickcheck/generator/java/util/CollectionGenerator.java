@@ -29,8 +29,11 @@ import java.util.Collection;
 
 import com.pholser.junit.quickcheck.generator.ComponentizedGenerator;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.SizeNarrowable;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 
+import static com.pholser.junit.quickcheck.internal.Ranges.*;
+
 /**
  * <p>Base class for generators of {@link Collection}s, such as {@link java.util.List}s and {@link java.util.Set}.</p>
  *
@@ -40,22 +43,33 @@ import com.pholser.junit.quickcheck.random.SourceOfRandomness;
  *
  * @param <T> the type of collection generated
  */
-public abstract class CollectionGenerator<T extends Collection> extends ComponentizedGenerator<T> {
+public abstract class CollectionGenerator<T extends Collection> extends ComponentizedGenerator<T>
+    implements SizeNarrowable {
+
+    private int minSize = 0;
+    private int maxSize = Integer.MAX_VALUE;
+
     protected CollectionGenerator(Class<T> type) {
         super(type);
     }
 
     @SuppressWarnings("unchecked")
     @Override public T generate(SourceOfRandomness random, GenerationStatus status) {
-        int size = status.size();
+        int size = narrowedSize(status.size(), minSize, maxSize);
 
         T items = empty();
-        for (int i = 0; i < size; ++i)
-            items.add(componentGenerators().get(0).generate(random, status));
+        componentGenerators().get(0).generate(random, status, size, items::add);
 
         return items;
     }
 
+    @Override public void narrowSize(int min, int max) {
+        if (Math.max(minSize, min) <= Math.min(maxSize, max)) {
+            minSize = Math.max(minSize, min);
+            maxSize = Math.min(maxSize, max);
+        }
+    }
+
     @Override public int numberOfNeededComponents() {
         return 1;
     }
@@ -29,8 +29,11 @@ import java.util.Map;
 
 import com.pholser.junit.quickcheck.generator.ComponentizedGenerator;
 import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.SizeNarrowable;
 import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 
+import static com.pholser.junit.quickcheck.internal.Ranges.*;
+
 /**
  * <p>Base class for generators of {@link Map}s.</p>
  *
@@ -39,14 +42,17 @@ import com.pholser.junit.quickcheck.random.SourceOfRandomness;
  *
  * @param <T> the type of map generated
  */
-public abstract class MapGenerator<T extends Map> extends ComponentizedGenerator<T> {
+public abstract class MapGenerator<T extends Map> extends ComponentizedGenerator<T> implements SizeNarrowable {
+    private int minSize = 0;
+    private int maxSize = Integer.MAX_VALUE;
+
     protected MapGenerator(Class<T> type) {
         super(type);
     }
 
     @SuppressWarnings("unchecked")
     @Override public T generate(SourceOfRandomness random, GenerationStatus status) {
-        int size = status.size();
+        int size = narrowedSize(status.size(), minSize, maxSize);
 
         T items = emptyMap();
         for (int i = 0; i < size; ++i) {
@@ -59,6 +65,13 @@ public abstract class MapGenerator<T extends Map> extends ComponentizedGenerator
         return items;
     }
 
+    @Override public void narrowSize(int min, int max) {
+        if (Math.max(minSize, min) <= Math.min(maxSize, max)) {
+            minSize = Math.max(minSize, min);
+            maxSize = Math.min(maxSize, max);
+        }
+    }
+
     @Override public int numberOfNeededComponents() {
         return 2;
     }
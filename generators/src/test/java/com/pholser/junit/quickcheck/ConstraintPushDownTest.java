@@ -0,0 +1,154 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck;
+
+import java.util.List;
+import java.util.Map;
+
+import com.pholser.junit.quickcheck.generator.InRange;
+import org.junit.Test;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.runner.RunWith;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class ConstraintPushDownTest {
+    @Test public void narrowIntRange() {
+        assertThat(testResult(NarrowIntRange.class), isSuccessful());
+    }
+
+    @RunWith(Theories.class)
+    public static class NarrowIntRange {
+        @Theory public void shouldHold(@ForAll(suchThat = "#_ > 1000 && #_ < 2000") int i) {
+            assertThat(i, allOf(greaterThan(1000), lessThan(2000)));
+        }
+    }
+
+    @Test public void narrowLongToSingleValue() {
+        assertThat(testResult(NarrowLongToSingleValue.class), isSuccessful());
+    }
+
+    @RunWith(Theories.class)
+    public static class NarrowLongToSingleValue {
+        @Theory public void shouldHold(@ForAll(suchThat = "#_ == -7") Long i) {
+            assertEquals(-7L, i.longValue());
+        }
+    }
+
+    @Test public void narrowDoubleRangeOutsideDefaultRange() {
+        assertThat(testResult(NarrowDoubleRange.class), isSuccessful());
+    }
+
+    @RunWith(Theories.class)
+    public static class NarrowDoubleRange {
+        @Theory public void shouldHold(@ForAll(suchThat = "1000 <= #_ and #_ <= 2000") double d) {
+            assertThat(d, allOf(greaterThanOrEqualTo(1000D), lessThanOrEqualTo(2000D)));
+        }
+    }
+
+    @Test public void narrowDoubleRangeOverlappingDefaultRange() {
+        assertThat(testResult(NarrowDoubleRangeOverlappingDefault.class), isSuccessful());
+        assertThat(NarrowDoubleRangeOverlappingDefault.greatest, greaterThan(1D));
+    }
+
+    @RunWith(Theories.class)
+    public static class NarrowDoubleRangeOverlappingDefault {
+        static double greatest;
+
+        @Theory public void shouldHold(@ForAll(sampleSize = 50, suchThat = "#_ >= 0.5 && #_ <= 2") double d) {
+            assertThat(d, allOf(greaterThanOrEqualTo(0.5), lessThanOrEqualTo(2D)));
+            greatest = Math.max(greatest, d);
+        }
+    }
+
+    @Test public void narrowFloatRangeWithLowerBoundOnly() {
+        assertThat(testResult(NarrowFloatRangeWithLowerBoundOnly.class), isSuccessful());
+    }
+
+    @RunWith(Theories.class)
+    public static class NarrowFloatRangeWithLowerBoundOnly {
+        @Theory public void shouldHold(@ForAll(suchThat = "#_ > 5") float f) {
+            assertThat(f, greaterThan(5F));
+        }
+    }
+
+    @Test public void narrowConfiguredDoubleRangeToOverlap() {
+        assertThat(testResult(NarrowConfiguredDoubleRange.class), isSuccessful());
+    }
+
+    @RunWith(Theories.class)
+    public static class NarrowConfiguredDoubleRange {
+        @Theory public void shouldHold(
+            @ForAll(suchThat = "#_ >= 5 && #_ < 20") @InRange(min = "0", max = "10") double d) {
+
+            assertThat(d, allOf(greaterThanOrEqualTo(5D), lessThan(10D)));
+        }
+    }
+
+    @Test public void narrowRangeWithResidualConstraint() {
+        assertThat(testResult(NarrowRangeWithResidual.class), isSuccessful());
+    }
+
+    @RunWith(Theories.class)
+    public static class NarrowRangeWithResidual {
+        @Theory public void shouldHold(
+            @ForAll(discardRatio = 10, suchThat = "#_ >= 0 && #_ < 100 && #_ % 2 == 0") int i) {
+
+            assertThat(i, allOf(greaterThanOrEqualTo(0), lessThan(100)));
+            assertEquals(0, i % 2);
+        }
+    }
+
+    @Test public void narrowListSize() {
+        assertThat(testResult(NarrowListSize.class), isSuccessful());
+    }
+
+    @RunWith(Theories.class)
+    public static class NarrowListSize {
+        @Theory public void shouldHold(
+            @ForAll(sampleSize = 20, suchThat = "#_.size() >= 3 && #_.size() <= 5") List<Integer> list) {
+
+            assertThat(list.size(), allOf(greaterThanOrEqualTo(3), lessThanOrEqualTo(5)));
+        }
+    }
+
+    @Test public void narrowMapSize() {
+        assertThat(testResult(NarrowMapSize.class), isSuccessful());
+    }
+
+    @RunWith(Theories.class)
+    public static class NarrowMapSize {
+        @Theory public void shouldHold(
+            @ForAll(sampleSize = 20, discardRatio = 10, suchThat = "#_.size() > 2") Map<Integer, String> map) {
+
+            assertThat(map.size(), greaterThan(2));
+        }
+    }
+}
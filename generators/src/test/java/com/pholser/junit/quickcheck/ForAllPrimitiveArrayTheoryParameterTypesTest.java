@@ -25,11 +25,13 @@
 
 package com.pholser.junit.quickcheck;
 
+import com.pholser.junit.quickcheck.generator.InRange;
 import org.junit.Test;
 import org.junit.contrib.theories.Theories;
 import org.junit.contrib.theories.Theory;
 import org.junit.runner.RunWith;
 
+import static org.hamcrest.Matchers.*;
 import static org.junit.Assert.*;
 import static org.junit.experimental.results.PrintableResult.*;
 import static org.junit.experimental.results.ResultMatchers.*;
@@ -75,6 +77,18 @@ public class ForAllPrimitiveArrayTheoryParameterTypesTest {
         }
     }
 
+    @Test public void primitiveByteArrayInRange() {
+        assertThat(testResult(PrimitiveByteArrayInRange.class), isSuccessful());
+    }
+
+    @RunWith(Theories.class)
+    public static class PrimitiveByteArrayInRange {
+        @Theory public void shouldHold(@ForAll @InRange(min = "-3", max = "5") byte[] b) {
+            for (byte each : b)
+                assertThat(each, allOf(greaterThanOrEqualTo((byte) -3), lessThanOrEqualTo((byte) 5)));
+        }
+    }
+
     @Test public void primitiveCharacterArray() {
         assertThat(testResult(PrimitiveCharacterArray.class), isSuccessful());
     }
@@ -40,7 +40,7 @@ public class ConstrainedPrimitiveIntegerTest extends BasicGeneratorTheoryParamet
     }
 
     @Override protected void primeSourceOfRandomness() {
-        when(Generating.ints(randomForParameterGenerator)).thenReturn(0).thenReturn(1).thenReturn(-1);
+        when(Generating.ints(randomForParameterGenerator, Integer.MIN_VALUE, 0)).thenReturn(0).thenReturn(-1);
     }
 
     @Override protected int sampleSize() {
@@ -52,6 +52,6 @@ public class ConstrainedPrimitiveIntegerTest extends BasicGeneratorTheoryParamet
     }
 
     @Override public void verifyInteractionWithRandomness() {
-        verifyInts(randomForParameterGenerator, times(3));
+        verifyInts(randomForParameterGenerator, times(2), Integer.MIN_VALUE, 0);
     }
 }
@@ -0,0 +1,78 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+package com.pholser.junit.quickcheck.generator.java.lang.strings;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+
+import static java.nio.charset.StandardCharsets.*;
+import static org.junit.Assert.*;
+
+public class PrecomputedCodePointsTest {
+    @Test public void shippedTablesMatchFreshScans() throws Exception {
+        ByteArrayOutputStream scanned = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(scanned)) {
+            CodePoints.writeTables(out, CodePoints.PRECOMPUTED_CHARSETS);
+        }
+
+        assertArrayEquals(
+            "regenerate " + CodePoints.PRECOMPUTED_RESOURCE + " with CodePoints.writeTables",
+            scanned.toByteArray(),
+            shipped());
+    }
+
+    @Test public void shippedTablesReadBackAsScanned() throws Exception {
+        CodePoints scanned = CodePoints.encodableCodePoints(UTF_16.newEncoder());
+        CodePoints read;
+        try (InputStream in = CodePoints.class.getResourceAsStream(CodePoints.PRECOMPUTED_RESOURCE)) {
+            read = CodePoints.readTables(in).get(UTF_16.name());
+        }
+
+        assertEquals(scanned.size(), read.size());
+        for (int i = 0; i < scanned.size(); i += 997)
+            assertEquals(scanned.at(i), read.at(i));
+        assertEquals(scanned.at(scanned.size() - 1), read.at(read.size() - 1));
+    }
+
+    @Test public void sharesCodePointsPerCharset() {
+        for (Charset each : new Charset[] { UTF_8, Charset.forName("windows-1252") })
+            assertSame(CodePoints.forCharset(each), CodePoints.forCharset(each));
+    }
+
+    private static byte[] shipped() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (InputStream in = CodePoints.class.getResourceAsStream(CodePoints.PRECOMPUTED_RESOURCE)) {
+            byte[] buffer = new byte[512];
+            for (int read; (read = in.read(buffer)) != -1; )
+                bytes.write(buffer, 0, read);
+        }
+        return bytes.toByteArray();
+    }
+}
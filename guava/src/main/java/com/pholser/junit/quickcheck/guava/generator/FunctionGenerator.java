@@ -48,6 +48,7 @@ public class FunctionGenerator<F, T> extends ComponentizedGenerator<Function> {
         return (Function<F, T>) makeLambda(
             Function.class,
             componentGenerators().get(1),
+            random,
             status);
     }
 
@@ -26,14 +26,11 @@
 package com.pholser.junit.quickcheck.guava.generator;
 
 import java.util.List;
-import java.util.Random;
 
 import com.google.common.base.Function;
-import com.google.common.base.Objects;
 import com.pholser.junit.quickcheck.generator.Generator;
 import com.pholser.junit.quickcheck.internal.generator.CoreTheoryParameterTest;
 import com.pholser.junit.quickcheck.internal.generator.ServiceLoaderGeneratorSource;
-import com.pholser.junit.quickcheck.random.SourceOfRandomness;
 
 import static com.google.common.collect.Lists.*;
 import static org.junit.Assert.*;
@@ -65,10 +62,7 @@ public class FunctionOfStringToIntTest extends CoreTheoryParameterTest {
         Function<String, Integer> f = (Function<String, Integer>) actual;
 
         String argument = "foobar";
-
-        SourceOfRandomness source = new SourceOfRandomness(new Random());
-        source.setSeed(Objects.hashCode(argument));
-        Integer value = (Integer) repository.generatorFor(Integer.class).generate(source, null);
+        Integer value = f.apply(argument);
 
         for (int i = 0; i < 10000; ++i)
             assertEquals(value, f.apply(argument));
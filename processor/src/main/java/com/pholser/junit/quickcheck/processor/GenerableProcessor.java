@@ -0,0 +1,361 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * <p>Emits a generator for each class marked {@code com.pholser.junit.quickcheck.generator.Generable}. The
+ * generator extends {@code com.pholser.junit.quickcheck.generator.DerivedGenerator}, and builds instances by
+ * invoking the class's constructor or by assigning its fields directly, so no reflection is involved in generating
+ * values.</p>
+ *
+ * <p>A marked class that the emitted generator could not build -- for instance, one without a single
+ * non-{@code private} constructor, or with a field that can be neither assigned nor set -- is reported as a
+ * compilation error.</p>
+ *
+ * <p>The processor runs automatically for any module that has this artifact on its compile-time class
+ * path.</p>
+ */
+@SupportedAnnotationTypes(GenerableProcessor.GENERABLE)
+public class GenerableProcessor extends AbstractProcessor {
+    static final String GENERABLE = "com.pholser.junit.quickcheck.generator.Generable";
+
+    @Override public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        for (TypeElement annotation : annotations) {
+            for (TypeElement each : ElementFilter.typesIn(round.getElementsAnnotatedWith(annotation))) {
+                try {
+                    emitGeneratorFor(each);
+                } catch (Underivable ex) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, ex.getMessage(), ex.element);
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private void emitGeneratorFor(TypeElement type) {
+        checkGenerable(type);
+
+        PackageElement pkg = processingEnv.getElementUtils().getPackageOf(type);
+        String simpleName = derivedSimpleNameOf(type);
+        String typeName = type.getQualifiedName().toString();
+
+        StringBuilder source = new StringBuilder();
+        if (!pkg.isUnnamed())
+            source.append("package ").append(pkg.getQualifiedName()).append(";\n\n");
+        source.append("import com.pholser.junit.quickcheck.generator.DerivedGenerator;\n")
+            .append("import com.pholser.junit.quickcheck.generator.GenerationStatus;\n")
+            .append("import com.pholser.junit.quickcheck.random.SourceOfRandomness;\n\n")
+            .append("/* Emitted by junit-quickcheck-processor for ").append(typeName).append(". */\n")
+            .append("public final class ").append(simpleName)
+            .append(" extends DerivedGenerator<").append(typeName).append("> {\n");
+
+        if ("FIELDS".equals(strategyOf(type)))
+            appendFieldsBody(source, type, simpleName);
+        else
+            appendConstructorBody(source, type, simpleName);
+
+        source.append("}\n");
+
+        String generatorName = pkg.isUnnamed() ? simpleName : pkg.getQualifiedName() + "." + simpleName;
+        try (Writer out = processingEnv.getFiler().createSourceFile(generatorName, type).openWriter()) {
+            out.write(source.toString());
+        } catch (IOException ex) {
+            throw new Underivable(type, "Could not write generator " + generatorName + ": " + ex.getMessage());
+        }
+    }
+
+    private void appendConstructorBody(StringBuilder source, TypeElement type, String simpleName) {
+        ExecutableElement constructor = singleNonPrivateConstructorOf(type);
+        List<? extends VariableElement> parameters = constructor.getParameters();
+        String typeName = type.getQualifiedName().toString();
+
+        source.append("    public ").append(simpleName).append("() {\n")
+            .append("        super(").append(typeName).append(".class, constructorOf(")
+            .append(typeName).append(".class");
+        for (VariableElement each : parameters)
+            source.append(", ").append(erasedSourceOf(each.asType(), each)).append(".class");
+        source.append("));\n")
+            .append("    }\n\n");
+
+        appendGenerateHeader(source, typeName);
+        source.append("        return new ").append(typeName).append('(');
+        for (int i = 0; i < parameters.size(); ++i) {
+            source.append(i == 0 ? "\n            " : ",\n            ")
+                .append(componentExpression(i, parameters.get(i).asType(), parameters.get(i)));
+        }
+        source.append(");\n")
+            .append("    }\n");
+    }
+
+    private void appendFieldsBody(StringBuilder source, TypeElement type, String simpleName) {
+        checkZeroArgConstructor(type);
+
+        List<VariableElement> fields = new ArrayList<>();
+        for (TypeElement c = type; c != null; c = superclassOf(c)) {
+            for (VariableElement each : ElementFilter.fieldsIn(c.getEnclosedElements())) {
+                if (!each.getModifiers().contains(Modifier.STATIC))
+                    fields.add(each);
+            }
+        }
+
+        String typeName = type.getQualifiedName().toString();
+        source.append("    public ").append(simpleName).append("() {\n")
+            .append("        super(").append(typeName).append(".class");
+        for (VariableElement each : fields) {
+            source.append(",\n            fieldOf(").append(declarerOf(each).getQualifiedName()).append(".class, \"")
+                .append(each.getSimpleName()).append("\")");
+        }
+        source.append(");\n")
+            .append("    }\n\n");
+
+        appendGenerateHeader(source, typeName);
+        source.append("        ").append(typeName).append(" generated = new ").append(typeName).append("();\n");
+        for (int i = 0; i < fields.size(); ++i) {
+            VariableElement field = fields.get(i);
+            String value = componentExpression(i, field.asType(), field);
+            String target = declarerOf(field).equals(type)
+                ? "generated"
+                : "((" + declarerOf(field).getQualifiedName() + ") generated)";
+
+            if (field.getModifiers().contains(Modifier.FINAL))
+                throw new Underivable(field, "Cannot give a generated value to final field " + field.getSimpleName());
+            if (accessibleFrom(type, field))
+                source.append("        ").append(target).append('.').append(field.getSimpleName()).append(" = ");
+            else {
+                source.append("        ").append(target).append('.').append(setterOf(type, field).getSimpleName())
+                    .append('(');
+                value += ")";
+            }
+            source.append(value).append(";\n");
+        }
+        source.append("        return generated;\n")
+            .append("    }\n");
+    }
+
+    private static void appendGenerateHeader(StringBuilder source, String typeName) {
+        source.append("    @SuppressWarnings({ \"unchecked\", \"rawtypes\" })\n")
+            .append("    @Override public ").append(typeName)
+            .append(" generate(SourceOfRandomness random, GenerationStatus status) {\n");
+    }
+
+    private String componentExpression(int index, TypeMirror type, Element component) {
+        if (type.getKind().isPrimitive())
+            return type.getKind().name().toLowerCase() + "Component(" + index + ", random, status)";
+
+        return "(" + sourceOf(type, component) + ") component(" + index + ", random, status)";
+    }
+
+    private void checkGenerable(TypeElement type) {
+        if (type.getKind() != ElementKind.CLASS)
+            throw new Underivable(type, "Only a class can be @Generable");
+        if (type.getModifiers().contains(Modifier.ABSTRACT))
+            throw new Underivable(type, "An abstract class cannot be @Generable");
+        if (!type.getTypeParameters().isEmpty())
+            throw new Underivable(type, "A generic class cannot be @Generable");
+
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            TypeElement each = (TypeElement) e;
+            if (each.getModifiers().contains(Modifier.PRIVATE))
+                throw new Underivable(type, "A @Generable class cannot be, or be nested in, a private class");
+            if (each.getNestingKind() == NestingKind.MEMBER && !each.getModifiers().contains(Modifier.STATIC))
+                throw new Underivable(type, "A @Generable class must be top-level or nested and static");
+            if (each.getNestingKind() == NestingKind.LOCAL || each.getNestingKind() == NestingKind.ANONYMOUS)
+                throw new Underivable(type, "A @Generable class must be top-level or nested and static");
+        }
+    }
+
+    private ExecutableElement singleNonPrivateConstructorOf(TypeElement type) {
+        List<ExecutableElement> candidates = new ArrayList<>();
+        for (ExecutableElement each : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (!each.getModifiers().contains(Modifier.PRIVATE))
+                candidates.add(each);
+        }
+
+        if (candidates.size() != 1)
+            throw new Underivable(type, type.getQualifiedName() + " needs a single non-private constructor");
+        return candidates.get(0);
+    }
+
+    private void checkZeroArgConstructor(TypeElement type) {
+        for (ExecutableElement each : ElementFilter.constructorsIn(type.getEnclosedElements())) {
+            if (each.getParameters().isEmpty() && !each.getModifiers().contains(Modifier.PRIVATE))
+                return;
+        }
+
+        throw new Underivable(type, type.getQualifiedName() + " needs a non-private zero-arg constructor");
+    }
+
+    private ExecutableElement setterOf(TypeElement type, VariableElement field) {
+        String name = field.getSimpleName().toString();
+        String setterName = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+
+        for (ExecutableElement each
+            : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+
+            if (each.getSimpleName().contentEquals(setterName)
+                && each.getParameters().size() == 1
+                && !each.getModifiers().contains(Modifier.STATIC)
+                && accessibleFrom(type, each)
+                && processingEnv.getTypeUtils().isSameType(
+                    processingEnv.getTypeUtils().erasure(each.getParameters().get(0).asType()),
+                    processingEnv.getTypeUtils().erasure(field.asType()))) {
+
+                return each;
+            }
+        }
+
+        throw new Underivable(
+            field,
+            "Field " + name + " is not accessible to the generated generator, and has no accessible "
+                + setterName + " method");
+    }
+
+    private boolean accessibleFrom(TypeElement type, Element member) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE))
+            return false;
+        if (modifiers.contains(Modifier.PUBLIC))
+            return true;
+
+        return processingEnv.getElementUtils().getPackageOf(type)
+            .equals(processingEnv.getElementUtils().getPackageOf(member));
+    }
+
+    private String erasedSourceOf(TypeMirror type, Element component) {
+        return sourceOf(processingEnv.getTypeUtils().erasure(type), component);
+    }
+
+    private String sourceOf(TypeMirror type, Element component) {
+        if (type.getKind().isPrimitive())
+            return type.getKind().name().toLowerCase();
+
+        switch (type.getKind()) {
+            case ARRAY:
+                return sourceOf(((ArrayType) type).getComponentType(), component) + "[]";
+            case DECLARED:
+                DeclaredType declared = (DeclaredType) type;
+                StringBuilder source =
+                    new StringBuilder(((TypeElement) declared.asElement()).getQualifiedName());
+                if (!declared.getTypeArguments().isEmpty()) {
+                    source.append('<');
+                    for (int i = 0; i < declared.getTypeArguments().size(); ++i) {
+                        if (i > 0)
+                            source.append(", ");
+                        source.append(sourceOf(declared.getTypeArguments().get(i), component));
+                    }
+                    source.append('>');
+                }
+                return source.toString();
+            case WILDCARD:
+                WildcardType wildcard = (WildcardType) type;
+                if (wildcard.getExtendsBound() != null)
+                    return "? extends " + sourceOf(wildcard.getExtendsBound(), component);
+                if (wildcard.getSuperBound() != null)
+                    return "? super " + sourceOf(wildcard.getSuperBound(), component);
+                return "?";
+            default:
+                throw new Underivable(component, "Cannot generate values of type " + type + " for " + component);
+        }
+    }
+
+    private TypeElement superclassOf(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        return superclass.getKind() == TypeKind.DECLARED
+            ? (TypeElement) ((DeclaredType) superclass).asElement()
+            : null;
+    }
+
+    private static TypeElement declarerOf(VariableElement field) {
+        return (TypeElement) field.getEnclosingElement();
+    }
+
+    private static String derivedSimpleNameOf(TypeElement type) {
+        StringBuilder name = new StringBuilder(type.getSimpleName());
+        for (Element e = type.getEnclosingElement(); e instanceof TypeElement; e = e.getEnclosingElement())
+            name.insert(0, ((TypeElement) e).getSimpleName() + "_");
+        return name.append("_Generator").toString();
+    }
+
+    private static String strategyOf(TypeElement type) {
+        for (AnnotationMirror each : type.getAnnotationMirrors()) {
+            if (!((TypeElement) each.getAnnotationType().asElement()).getQualifiedName().contentEquals(GENERABLE))
+                continue;
+
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value
+                : each.getElementValues().entrySet()) {
+
+                if (value.getKey().getSimpleName().contentEquals("value"))
+                    return ((VariableElement) value.getValue().getValue()).getSimpleName().toString();
+            }
+        }
+
+        return "CONSTRUCTOR";
+    }
+
+    private static final class Underivable extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        final transient Element element;
+
+        Underivable(Element element, String message) {
+            super(message);
+            this.element = element;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+
+import static javax.tools.StandardLocation.*;
+
+/**
+ * <p>Writes, for the generators compiled in a module, an index of the types each generator will be registered
+ * for: the type it produces, all of that type's superclasses and interfaces, and the primitive counterpart of
+ * a primitive wrapper type. junit-quickcheck uses the index to defer loading and instantiating a generator
+ * listed in {@code META-INF/services/com.pholser.junit.quickcheck.generator.Generator} until a theory
+ * parameter needs one of those types.</p>
+ *
+ * <p>The index is written to {@value #INDEX}, one line per concrete, public generator class:
+ * {@code generator-binary-name=type-name,type-name,...}. A generator whose produced type cannot be determined
+ * at compile time is listed with no types, and is loaded eagerly as before.</p>
+ *
+ * <p>The processor runs automatically for any module that has this artifact on its compile-time class
+ * path.</p>
+ */
+@SupportedAnnotationTypes("*")
+public class GeneratorIndexProcessor extends AbstractProcessor {
+    public static final String INDEX = "META-INF/junit-quickcheck/generators.index";
+
+    private static final String GENERATOR = "com.pholser.junit.quickcheck.generator.Generator";
+
+    private final Map<String, Set<String>> index = new TreeMap<>();
+
+    @Override public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        TypeElement generator = processingEnv.getElementUtils().getTypeElement(GENERATOR);
+        if (generator == null)
+            return false;
+
+        for (TypeElement each : ElementFilter.typesIn(round.getRootElements()))
+            indexClassAndMembers(each, generator);
+
+        if (round.processingOver() && !index.isEmpty())
+            writeIndex();
+
+        return false;
+    }
+
+    private void indexClassAndMembers(TypeElement type, TypeElement generator) {
+        if (isConcretePublicGenerator(type, generator))
+            index.put(binaryNameOf(type), typesRegisteredFor(producedType(type, generator)));
+
+        for (TypeElement each : ElementFilter.typesIn(type.getEnclosedElements())) {
+            if (each.getModifiers().contains(Modifier.STATIC))
+                indexClassAndMembers(each, generator);
+        }
+    }
+
+    private boolean isConcretePublicGenerator(TypeElement type, TypeElement generator) {
+        return type.getKind() == ElementKind.CLASS
+            && type.getModifiers().contains(Modifier.PUBLIC)
+            && !type.getModifiers().contains(Modifier.ABSTRACT)
+            && processingEnv.getTypeUtils().isSubtype(
+                processingEnv.getTypeUtils().erasure(type.asType()),
+                processingEnv.getTypeUtils().erasure(generator.asType()));
+    }
+
+    private TypeMirror producedType(TypeElement type, TypeElement generator) {
+        Types types = processingEnv.getTypeUtils();
+        TypeMirror current = type.asType();
+        TypeMirror generatorErasure = types.erasure(generator.asType());
+
+        while (current.getKind() == TypeKind.DECLARED) {
+            if (types.isSameType(types.erasure(current), generatorErasure)) {
+                List<? extends TypeMirror> arguments = ((DeclaredType) current).getTypeArguments();
+                return arguments.isEmpty() ? null : arguments.get(0);
+            }
+
+            List<? extends TypeMirror> supertypes = types.directSupertypes(current);
+            if (supertypes.isEmpty())
+                return null;
+
+            // For a class, the superclass comes first.
+            current = supertypes.get(0);
+        }
+
+        return null;
+    }
+
+    private Set<String> typesRegisteredFor(TypeMirror produced) {
+        Set<String> types = new LinkedHashSet<>();
+        if (produced == null || produced.getKind() != TypeKind.DECLARED)
+            return types;
+
+        addHierarchy(produced, types);
+
+        TypeElement element = (TypeElement) ((DeclaredType) produced).asElement();
+        try {
+            types.add(processingEnv.getTypeUtils().unboxedType(produced).toString());
+        } catch (IllegalArgumentException notAWrapper) {
+            if ("java.lang.Void".equals(element.getQualifiedName().toString()))
+                types.add("void");
+        }
+
+        return types;
+    }
+
+    private void addHierarchy(TypeMirror type, Set<String> types) {
+        Element element = processingEnv.getTypeUtils().asElement(type);
+        if (!(element instanceof TypeElement))
+            return;
+
+        if (types.add(binaryNameOf((TypeElement) element))) {
+            for (TypeMirror each : processingEnv.getTypeUtils().directSupertypes(type))
+                addHierarchy(each, types);
+        }
+    }
+
+    private String binaryNameOf(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    private void writeIndex() {
+        try {
+            FileObject resource = processingEnv.getFiler().createResource(CLASS_OUTPUT, "", INDEX);
+            try (Writer out = resource.openWriter()) {
+                for (Map.Entry<String, Set<String>> each : index.entrySet())
+                    out.write(each.getKey() + '=' + String.join(",", each.getValue()) + '\n');
+            }
+        } catch (IOException ex) {
+            processingEnv.getMessager().printMessage(
+                Diagnostic.Kind.ERROR,
+                "Could not write generator index " + INDEX + ": " + ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.processor;
+
+import com.pholser.junit.quickcheck.ForAll;
+import com.pholser.junit.quickcheck.From;
+import org.junit.Test;
+import org.junit.contrib.theories.Theories;
+import org.junit.contrib.theories.Theory;
+import org.junit.runner.RunWith;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+import static org.junit.experimental.results.PrintableResult.*;
+import static org.junit.experimental.results.ResultMatchers.*;
+
+public class AutoGenerationByDerivedGeneratorTest {
+    @Test public void generableTypeUsesDerivedGenerator() {
+        assertThat(testResult(GenerableType.class), isSuccessful());
+    }
+
+    @RunWith(Theories.class)
+    public static class GenerableType {
+        @Theory public void shouldHold(@ForAll Segment s) {
+            assertThat(s.start(), allOf(greaterThanOrEqualTo(5), lessThanOrEqualTo(7)));
+            assertEquals(3, s.foo().i());
+        }
+    }
+
+    @Test public void explicitDerivedGenerator() {
+        assertThat(testResult(ExplicitDerivedGenerator.class), isSuccessful());
+    }
+
+    @RunWith(Theories.class)
+    public static class ExplicitDerivedGenerator {
+        @Theory public void shouldHold(@ForAll @From(Segment_Generator.class) Segment s) {
+            assertThat(s.start(), allOf(greaterThanOrEqualTo(5), lessThanOrEqualTo(7)));
+            assertEquals(3, s.foo().i());
+        }
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.processor;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import com.pholser.junit.quickcheck.generator.GenerationStatus;
+import com.pholser.junit.quickcheck.generator.Generator;
+import com.pholser.junit.quickcheck.internal.generator.GeneratorRepository;
+import com.pholser.junit.quickcheck.random.SourceOfRandomness;
+import com.pholser.junit.quickcheck.test.generator.TestArrayListGenerator;
+import com.pholser.junit.quickcheck.test.generator.TestIntegerGenerator;
+import com.pholser.junit.quickcheck.test.generator.TestStringGenerator;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static java.util.Arrays.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+public class GenerableProcessorTest {
+    @Rule public final TemporaryFolder output = new TemporaryFolder();
+
+    private final List<JavaFileObject> sources = new ArrayList<>();
+    private final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+    @Test public void constructorStrategy() throws Exception {
+        source("sample.Point",
+            "package sample;",
+            "@com.pholser.junit.quickcheck.generator.Generable",
+            "public class Point {",
+            "    public final int x;",
+            "    public final String label;",
+            "    public Point(int x, String label) { this.x = x; this.label = label; }",
+            "}");
+
+        Object point = generate("sample.Point");
+
+        assertThat(point.getClass().getField("x").get(point), instanceOf(Integer.class));
+        assertThat(point.getClass().getField("label").get(point), instanceOf(String.class));
+    }
+
+    @Test public void fieldsStrategy() throws Exception {
+        source("sample.Base",
+            "package sample;",
+            "public class Base {",
+            "    private String name;",
+            "    public String getName() { return name; }",
+            "    public void setName(String name) { this.name = name; }",
+            "}");
+        source("sample.Record",
+            "package sample;",
+            "import static com.pholser.junit.quickcheck.generator.Generable.Strategy.*;",
+            "@com.pholser.junit.quickcheck.generator.Generable(FIELDS)",
+            "public class Record extends Base {",
+            "    static int ignored;",
+            "    int count;",
+            "    java.util.List<String> tags;",
+            "}");
+
+        Object record = generate("sample.Record");
+
+        assertThat(record.getClass().getMethod("getName").invoke(record), instanceOf(String.class));
+        assertThat(field(record, "count"), instanceOf(Integer.class));
+    }
+
+    @Test public void nestedClassNamesGenerator() throws Exception {
+        source("sample.Shapes",
+            "package sample;",
+            "public class Shapes {",
+            "    @com.pholser.junit.quickcheck.generator.Generable",
+            "    public static class Square {",
+            "        public final int side;",
+            "        public Square(int side) { this.side = side; }",
+            "    }",
+            "}");
+
+        assertTrue(diagnostics.getDiagnostics().toString(), compile());
+        assertTrue(new File(output.getRoot(), "sample/Shapes_Square_Generator.class").exists());
+    }
+
+    @Test public void rejectsClassWithoutSingleConstructor() throws Exception {
+        source("sample.Twice",
+            "package sample;",
+            "@com.pholser.junit.quickcheck.generator.Generable",
+            "public class Twice {",
+            "    public Twice() { }",
+            "    public Twice(int i) { }",
+            "}");
+
+        assertFalse(compile());
+        assertThat(errors(), contains(containsString("needs a single non-private constructor")));
+    }
+
+    @Test public void rejectsGenericClass() throws Exception {
+        source("sample.Holder",
+            "package sample;",
+            "@com.pholser.junit.quickcheck.generator.Generable",
+            "public class Holder<T> {",
+            "}");
+
+        assertFalse(compile());
+        assertThat(errors(), contains(containsString("A generic class cannot be @Generable")));
+    }
+
+    @Test public void rejectsFieldThatCannotBeSet() throws Exception {
+        source("sample.Sealed",
+            "package sample;",
+            "import static com.pholser.junit.quickcheck.generator.Generable.Strategy.*;",
+            "@com.pholser.junit.quickcheck.generator.Generable(FIELDS)",
+            "public class Sealed {",
+            "    private int hidden;",
+            "}");
+
+        assertFalse(compile());
+        assertThat(errors(), contains(containsString("has no accessible setHidden method")));
+    }
+
+    @Test public void rejectsFinalFieldWhenAssigningFields() throws Exception {
+        source("sample.Fixed",
+            "package sample;",
+            "import static com.pholser.junit.quickcheck.generator.Generable.Strategy.*;",
+            "@com.pholser.junit.quickcheck.generator.Generable(FIELDS)",
+            "public class Fixed {",
+            "    final int value = 0;",
+            "}");
+
+        assertFalse(compile());
+        assertThat(errors(), contains(containsString("final field value")));
+    }
+
+    private void source(String className, String... lines) {
+        sources.add(new SimpleJavaFileObject(
+            URI.create("string:///" + className.replace('.', '/') + ".java"),
+            JavaFileObject.Kind.SOURCE) {
+
+            @Override public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return String.join("\n", lines);
+            }
+        });
+    }
+
+    private boolean compile() {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaCompiler.CompilationTask task = compiler.getTask(
+            null,
+            null,
+            diagnostics,
+            asList(
+                "-d", output.getRoot().getPath(),
+                "-classpath", System.getProperty("java.class.path"),
+                "-parameters"),
+            null,
+            sources);
+        task.setProcessors(asList(new GenerableProcessor()));
+
+        return task.call();
+    }
+
+    private List<String> errors() {
+        List<String> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> each : diagnostics.getDiagnostics()) {
+            if (each.getKind() == Diagnostic.Kind.ERROR)
+                errors.add(each.getMessage(null));
+        }
+        return errors;
+    }
+
+    private Object generate(String className) throws Exception {
+        assertTrue(diagnostics.getDiagnostics().toString(), compile());
+
+        URLClassLoader loader =
+            new URLClassLoader(new URL[] { output.getRoot().toURI().toURL() }, getClass().getClassLoader());
+        Class<?> type = loader.loadClass(className);
+
+        GeneratorRepository repo = new GeneratorRepository(new SourceOfRandomness(new Random()))
+            .register(new TestIntegerGenerator())
+            .register(new TestStringGenerator())
+            .register(new TestArrayListGenerator());
+        Generator<?> generator = repo.generatorFor(type);
+        generator.provideRepository(repo);
+
+        return generator.generate(new SourceOfRandomness(new Random()), new GenerationStatus() {
+            @Override public int size() {
+                return 3;
+            }
+
+            @Override public int attempts() {
+                return 0;
+            }
+        });
+    }
+
+    private static Object field(Object target, String name) throws Exception {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(target);
+    }
+}
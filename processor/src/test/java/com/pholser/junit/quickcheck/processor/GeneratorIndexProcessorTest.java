@@ -0,0 +1,171 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.processor;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static java.nio.charset.StandardCharsets.*;
+import static java.util.Arrays.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.*;
+
+public class GeneratorIndexProcessorTest {
+    @Rule public final TemporaryFolder output = new TemporaryFolder();
+
+    private final List<JavaFileObject> sources = new ArrayList<>();
+
+    @Test public void indexesProducedTypeHierarchyAndPrimitiveOfWrapper() throws Exception {
+        source("sample.Ints",
+            "package sample;",
+            "import com.pholser.junit.quickcheck.generator.*;",
+            "import com.pholser.junit.quickcheck.random.*;",
+            "public class Ints extends Generator<Integer> {",
+            "    public Ints() { super(Integer.class); }",
+            "    @Override public Integer generate(SourceOfRandomness r, GenerationStatus s) { return 0; }",
+            "}");
+
+        assertThat(
+            index(),
+            contains("sample.Ints=java.lang.Integer,java.lang.Number,java.lang.Object,java.io.Serializable"
+                + ",java.lang.Comparable,int"));
+    }
+
+    @Test public void indexesThroughIntermediateGeneratorSuperclasses() throws Exception {
+        source("sample.Lists",
+            "package sample;",
+            "import java.util.*;",
+            "import com.pholser.junit.quickcheck.generator.*;",
+            "import com.pholser.junit.quickcheck.random.*;",
+            "@SuppressWarnings(\"rawtypes\")",
+            "public class Lists extends ComponentizedGenerator<List> {",
+            "    public Lists() { super(List.class); }",
+            "    @Override public List generate(SourceOfRandomness r, GenerationStatus s) { return null; }",
+            "    @Override public int numberOfNeededComponents() { return 1; }",
+            "}");
+
+        assertThat(
+            index(),
+            contains("sample.Lists=java.util.List,java.lang.Object,java.util.Collection,java.lang.Iterable"));
+    }
+
+    @Test public void indexesPublicNestedGeneratorsByBinaryName() throws Exception {
+        source("sample.Outer",
+            "package sample;",
+            "import com.pholser.junit.quickcheck.generator.*;",
+            "import com.pholser.junit.quickcheck.random.*;",
+            "public class Outer {",
+            "    public static class Strings extends Generator<String> {",
+            "        public Strings() { super(String.class); }",
+            "        @Override public String generate(SourceOfRandomness r, GenerationStatus s) { return \"\"; }",
+            "    }",
+            "}");
+
+        assertThat(index(), contains(startsWith("sample.Outer$Strings=java.lang.String,java.lang.Object,")));
+    }
+
+    @Test public void leavesOutAbstractAndNonPublicGenerators() throws Exception {
+        source("sample.Skipped",
+            "package sample;",
+            "import com.pholser.junit.quickcheck.generator.*;",
+            "import com.pholser.junit.quickcheck.random.*;",
+            "public abstract class Skipped extends Generator<Object> {",
+            "    protected Skipped() { super(Object.class); }",
+            "}",
+            "class Hidden extends Generator<Object> {",
+            "    Hidden() { super(Object.class); }",
+            "    @Override public Object generate(SourceOfRandomness r, GenerationStatus s) { return null; }",
+            "}");
+
+        assertThat(index(), empty());
+    }
+
+    @Test public void indexesGeneratorOfTypeVariableWithoutTypes() throws Exception {
+        source("sample.Anything",
+            "package sample;",
+            "import com.pholser.junit.quickcheck.generator.*;",
+            "import com.pholser.junit.quickcheck.random.*;",
+            "public class Anything<T> extends Generator<T> {",
+            "    public Anything(Class<T> type) { super(type); }",
+            "    @Override public T generate(SourceOfRandomness r, GenerationStatus s) { return null; }",
+            "}");
+
+        assertThat(index(), contains("sample.Anything="));
+    }
+
+    @Test public void indexesVoidAsItsPseudoPrimitiveToo() throws Exception {
+        source("sample.Voids",
+            "package sample;",
+            "import com.pholser.junit.quickcheck.generator.*;",
+            "import com.pholser.junit.quickcheck.random.*;",
+            "public class Voids extends Generator<Void> {",
+            "    public Voids() { super(Void.class); }",
+            "    @Override public Void generate(SourceOfRandomness r, GenerationStatus s) { return null; }",
+            "}");
+
+        assertThat(index(), contains("sample.Voids=java.lang.Void,java.lang.Object,void"));
+    }
+
+    private void source(String className, String... lines) {
+        sources.add(new SimpleJavaFileObject(
+            URI.create("string:///" + className.replace('.', '/') + ".java"),
+            JavaFileObject.Kind.SOURCE) {
+
+            @Override public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return String.join("\n", lines);
+            }
+        });
+    }
+
+    private List<String> index() throws IOException {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaCompiler.CompilationTask task = compiler.getTask(
+            null,
+            null,
+            null,
+            asList("-d", output.getRoot().getPath(), "-classpath", System.getProperty("java.class.path")),
+            null,
+            sources);
+        task.setProcessors(asList(new GeneratorIndexProcessor()));
+
+        assertTrue("compilation failed", task.call());
+
+        File index = new File(output.getRoot(), GeneratorIndexProcessor.INDEX);
+        return index.exists() ? Files.readAllLines(index.toPath(), UTF_8) : new ArrayList<>();
+    }
+}
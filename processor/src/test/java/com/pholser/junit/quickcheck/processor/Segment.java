@@ -0,0 +1,54 @@
+/*
+ The MIT License
+
+ Copyright (c) 2010-2014 Paul R. Holser, Jr.
+
+ Permission is hereby granted, free of charge, to any person obtaining
+ a copy of this software and associated documentation files (the
+ "Software"), to deal in the Software without restriction, including
+ without limitation the rights to use, copy, modify, merge, publish,
+ distribute, sublicense, and/or sell copies of the Software, and to
+ permit persons to whom the Software is furnished to do so, subject to
+ the following conditions:
+
+ The above copyright notice and this permission notice shall be
+ included in all copies or substantial portions of the Software.
+
+ THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+*/
+
+package com.pholser.junit.quickcheck.processor;
+
+import com.pholser.junit.quickcheck.From;
+import com.pholser.junit.quickcheck.generator.Generable;
+import com.pholser.junit.quickcheck.test.generator.Between;
+import com.pholser.junit.quickcheck.test.generator.Foo;
+import com.pholser.junit.quickcheck.test.generator.TestIntegerGenerator;
+
+import static com.pholser.junit.quickcheck.test.generator.FooGenerator.*;
+
+/* Its generator, Segment_Generator, is emitted by GenerableProcessor when this module's tests are compiled. */
+@Generable
+public class Segment {
+    private final int start;
+    private final Foo foo;
+
+    public Segment(@From(TestIntegerGenerator.class) @Between(min = 5, max = 7) int start, @Same(3) Foo foo) {
+        this.start = start;
+        this.foo = foo;
+    }
+
+    public int start() {
+        return start;
+    }
+
+    public Foo foo() {
+        return foo;
+    }
+}